@@ -0,0 +1,173 @@
+package com.company.auth;
+
+import com.company.model.Role;
+import com.company.model.User;
+import com.company.model.UserStatus;
+import com.company.repos.RoleRepository;
+import com.company.repos.UserLoginRepository;
+import com.company.repos.UserRepository;
+import com.company.service.PasswordHashingService;
+import com.company.service.RoleService;
+import com.company.service.SessionService;
+import jakarta.servlet.http.HttpSession;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+// Runs both login paths against the H2 (PostgreSQL mode) database from the test application.yml:
+// "legacy" is the entity load + full save the controller used before, "pipeline" is the credentials
+// projection with coalesced last_login_at writes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(Threads.MAX)
+@Fork(1)
+public class LoginBenchmark {
+
+    @Param({"4", "10"})
+    private int bcryptStrength;
+
+    @Param({"100"})
+    private int users;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private BCryptPasswordEncoder passwordEncoder;
+    private RoleService roleService;
+    private SessionService sessionService;
+    private LoginController controller;
+    private LastLoginRecorder lastLoginRecorder;
+    private String[] usernames;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkDatabase.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.show-sql=false", "logging.level.root=WARN")
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        RoleRepository roleRepository = context.getBean(RoleRepository.class);
+        UserLoginRepository userLoginRepository = new UserLoginRepository(context.getBean(JdbcTemplate.class));
+
+        passwordEncoder = new BCryptPasswordEncoder(bcryptStrength);
+        String passwordHash = passwordEncoder.encode("pw");
+        Role employee = role(roleRepository, "EMPLOYEE");
+        Role manager = role(roleRepository, "MANAGER");
+        usernames = new String[users];
+        for (int i = 0; i < users; i++) {
+            usernames[i] = "user" + i;
+            User user = new User();
+            user.setUsername(usernames[i]);
+            user.setDisplayName("User " + i);
+            user.setPasswordHash(passwordHash);
+            user.setRegionCode("DE");
+            user.setRoles(Set.of(employee, manager));
+            userRepository.save(user);
+        }
+
+        roleService = new RoleService();
+        sessionService = new SessionService(roleService);
+        lastLoginRecorder = new LastLoginRecorder(userLoginRepository);
+        controller = new LoginController(userLoginRepository,
+                new PasswordHashingService(passwordEncoder, Runnable::run, Duration.ofSeconds(5), bcryptStrength, 0),
+                sessionService, roleService, lastLoginRecorder);
+        if (!String.valueOf(pipeline(new ThreadState())).contains("/calendar")
+                || !"/calendar".equals(legacy(new ThreadState()))) {
+            throw new IllegalStateException("Login benchmark fixtures do not log in");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void flushLastLogins() {
+        lastLoginRecorder.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object pipeline(ThreadState state) {
+        String username = usernames[state.next(usernames.length)];
+        return controller.login(new LoginRequest(username, "pw"), new MockHttpServletRequest()).getBody();
+    }
+
+    @Benchmark
+    public Object legacy(ThreadState state) {
+        String username = usernames[state.next(usernames.length)];
+        Optional<User> userOptional = userRepository.findByUsernameIgnoreCase(username);
+        if (userOptional.isEmpty() || userOptional.get().getStatus() != UserStatus.ACTIVE) {
+            return null;
+        }
+        User user = userOptional.get();
+        if (!passwordEncoder.matches("pw", user.getPasswordHash())) {
+            return null;
+        }
+        HttpSession session = sessionService.resetSession(new MockHttpServletRequest());
+        sessionService.establishSession(session, user);
+        user.setLastLoginAt(Instant.now());
+        userRepository.save(user);
+        return roleService.resolveHomeRoute(user.getRoles());
+    }
+
+    private static Role role(RoleRepository roleRepository, String code) {
+        Role role = new Role();
+        role.setCode(code);
+        return roleRepository.save(role);
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({
+            DataSourceAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class
+    })
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class BenchmarkDatabase {
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int index;
+
+        int next(int bound) {
+            index = (index + 1) % bound;
+            return index;
+        }
+    }
+}
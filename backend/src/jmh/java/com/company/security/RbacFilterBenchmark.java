@@ -0,0 +1,80 @@
+package com.company.security;
+
+import com.company.repos.UserRepository;
+import com.company.service.RoleService;
+import com.company.service.SessionRefreshService;
+import com.company.service.SessionService;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RbacFilterBenchmark {
+
+    @Param({"/api/admin/users", "/api/hr/process", "/api/calendar"})
+    private String path;
+
+    @Param({"mask", "legacy"})
+    private String sessionFormat;
+
+    private SessionService sessionService;
+    private RbacFilter filter;
+    private MockHttpSession session;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionService = new SessionService(new RoleService());
+        AuthorizationEpochs authorizationEpochs = new AuthorizationEpochs();
+        for (int i = 0; i < 1000; i++) {
+            authorizationEpochs.markChanged(UUID.randomUUID(), System.currentTimeMillis());
+        }
+        filter = new RbacFilter(sessionService, authorizationEpochs,
+                new SessionRefreshService(Mockito.mock(UserRepository.class), sessionService));
+        session = new MockHttpSession();
+        session.setAttribute(SessionService.ATTR_USER_ID, UUID.randomUUID());
+        session.setAttribute(SessionService.ATTR_AUTHORIZED_AT, System.currentTimeMillis());
+        List<String> roles = List.of("ADMIN", "HR", "MANAGER", "EMPLOYEE");
+        session.setAttribute(SessionService.ATTR_ROLES, roles);
+        if ("mask".equals(sessionFormat)) {
+            session.setAttribute(SessionService.ATTR_ROLE_MASK, RoleMask.of(roles));
+        }
+    }
+
+    @Benchmark
+    public int roleMask() {
+        return sessionService.getRoleMask(session);
+    }
+
+    @Benchmark
+    public int filter() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setSession(session);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response.getStatus();
+    }
+}
@@ -1,17 +1,24 @@
 package com.company.api;
 
+import com.company.dto.AdminDtos.AdminListQuery;
 import com.company.dto.AdminDtos.AdminTeamRequest;
 import com.company.dto.AdminDtos.AdminUserRequest;
+import com.company.dto.AdminDtos.UserImportRow;
 import com.company.repos.RoleRepository;
 import com.company.repos.UserRepository;
 import com.company.service.AdminConfigurationService;
+import com.company.service.PasswordHashingService.HashingUnavailableException;
 import com.company.service.SessionService;
+import com.company.service.UserImportService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -30,23 +37,39 @@ public class AdminUserController {
     private final SessionService sessionService;
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
+    private final UserImportService userImportService;
 
     public AdminUserController(AdminConfigurationService adminConfigurationService,
                                SessionService sessionService,
                                RoleRepository roleRepository,
-                               UserRepository userRepository) {
+                               UserRepository userRepository,
+                               UserImportService userImportService) {
         this.adminConfigurationService = adminConfigurationService;
         this.sessionService = sessionService;
         this.roleRepository = roleRepository;
         this.userRepository = userRepository;
+        this.userImportService = userImportService;
     }
 
     @GetMapping("/users")
-    public ResponseEntity<?> listUsers(HttpServletRequest request) {
+    public ResponseEntity<?> listUsers(@RequestParam(value = "page", required = false) Integer page,
+                                       @RequestParam(value = "size", required = false) Integer size,
+                                       @RequestParam(value = "sort", required = false) String sort,
+                                       @RequestParam(value = "q", required = false) String search,
+                                       @RequestParam(value = "status", required = false) String status,
+                                       HttpServletRequest request) {
         if (actor(request) == null) {
             return unauthorized();
         }
-        return ResponseEntity.ok(adminConfigurationService.listUsers());
+        AdminListQuery query = new AdminListQuery(page, size, sort, search, status);
+        if (isUnpaged(query)) {
+            return ResponseEntity.ok(adminConfigurationService.listUsers());
+        }
+        try {
+            return ResponseEntity.ok(adminConfigurationService.listUsers(query));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
     }
 
     @GetMapping("/roles")
@@ -81,11 +104,42 @@ public class AdminUserController {
         }
         try {
             return ResponseEntity.status(HttpStatus.CREATED).body(adminConfigurationService.createUser(actor, requestBody));
+        } catch (HashingUnavailableException ex) {
+            return hashingBusy();
         } catch (IllegalArgumentException | IllegalStateException ex) {
             return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
         }
     }
 
+    @PostMapping(value = "/users/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> importUsers(@RequestBody List<UserImportRow> rows, HttpServletRequest request) {
+        UUID actor = actor(request);
+        if (actor == null) {
+            return unauthorized();
+        }
+        if (rows == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "rows_required"));
+        }
+        try {
+            return ResponseEntity.ok(userImportService.importRows(actor, rows));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    @PostMapping(value = "/users/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<?> importUsersCsv(HttpServletRequest request) throws IOException {
+        UUID actor = actor(request);
+        if (actor == null) {
+            return unauthorized();
+        }
+        try {
+            return ResponseEntity.ok(userImportService.importCsv(actor, request.getReader()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
     @PutMapping("/users/{id}")
     public ResponseEntity<?> updateUser(@PathVariable("id") UUID userId,
                                         @RequestBody AdminUserRequest requestBody,
@@ -100,17 +154,32 @@ public class AdminUserController {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "not_found"));
             }
             return ResponseEntity.ok(result);
+        } catch (HashingUnavailableException ex) {
+            return hashingBusy();
         } catch (IllegalArgumentException | IllegalStateException ex) {
             return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
         }
     }
 
     @GetMapping("/teams")
-    public ResponseEntity<?> listTeams(HttpServletRequest request) {
+    public ResponseEntity<?> listTeams(@RequestParam(value = "page", required = false) Integer page,
+                                       @RequestParam(value = "size", required = false) Integer size,
+                                       @RequestParam(value = "sort", required = false) String sort,
+                                       @RequestParam(value = "q", required = false) String search,
+                                       @RequestParam(value = "status", required = false) String status,
+                                       HttpServletRequest request) {
         if (actor(request) == null) {
             return unauthorized();
         }
-        return ResponseEntity.ok(adminConfigurationService.listTeams());
+        AdminListQuery query = new AdminListQuery(page, size, sort, search, status);
+        if (isUnpaged(query)) {
+            return ResponseEntity.ok(adminConfigurationService.listTeams());
+        }
+        try {
+            return ResponseEntity.ok(adminConfigurationService.listTeams(query));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
     }
 
     @PostMapping("/teams")
@@ -145,6 +214,11 @@ public class AdminUserController {
         }
     }
 
+    private boolean isUnpaged(AdminListQuery query) {
+        return query.page() == null && query.size() == null && query.sort() == null
+                && query.search() == null && query.status() == null;
+    }
+
     private UUID actor(HttpServletRequest request) {
         HttpSession session = request.getSession(false);
         if (session == null) {
@@ -156,4 +230,10 @@ public class AdminUserController {
     private ResponseEntity<Map<String, String>> unauthorized() {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Unauthorized"));
     }
+
+    private ResponseEntity<Map<String, String>> hashingBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "password_hashing_busy"));
+    }
 }
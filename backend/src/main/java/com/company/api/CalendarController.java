@@ -58,7 +58,7 @@ public class CalendarController {
             return ResponseEntity.badRequest().body(Map.of("error", "start must be on or before end"));
         }
 
-        DashboardResponse base = dashboardService.loadDashboard(userId, session, rangeStart, rangeEnd);
+        DashboardResponse base = dashboardService.loadDashboard(userId, rangeStart, rangeEnd);
         List<ManagerPendingItem> pending = roles.stream().anyMatch(r -> r.equalsIgnoreCase("MANAGER"))
                 ? managerService.loadPendingRequests()
                 : List.of();
@@ -1,6 +1,8 @@
 package com.company.api;
 
 import com.company.service.DayCountService;
+import com.company.service.SessionService;
+import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDate;
 import java.util.Map;
 import org.springframework.format.annotation.DateTimeFormat;
@@ -15,16 +17,19 @@ import org.springframework.web.bind.annotation.RestController;
 public class ComputeDaysController {
 
     private final DayCountService dayCountService;
+    private final SessionService sessionService;
 
-    public ComputeDaysController(DayCountService dayCountService) {
+    public ComputeDaysController(DayCountService dayCountService, SessionService sessionService) {
         this.dayCountService = dayCountService;
+        this.sessionService = sessionService;
     }
 
     @GetMapping("/compute-days")
     public ResponseEntity<?> computeDays(@RequestParam("start")
                                          @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate start,
                                          @RequestParam("end")
-                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end) {
+                                         @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate end,
+                                         HttpServletRequest request) {
         if (start == null || end == null) {
             return ResponseEntity.badRequest().body(Map.of("error", "start and end are required"));
         }
@@ -32,7 +37,12 @@ public class ComputeDaysController {
             return ResponseEntity.badRequest().body(Map.of("error", "end must be on or after start"));
         }
 
-        long days = dayCountService.computeNumberOfDays(start, end);
-        return ResponseEntity.ok(Map.of("number_of_days", days));
+        String region = sessionService.getRegion(request.getSession(false));
+        try {
+            long days = dayCountService.computeNumberOfDays(region, start, end);
+            return ResponseEntity.ok(Map.of("number_of_days", days));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
     }
 }
@@ -49,7 +49,7 @@ public class DashboardController {
             return ResponseEntity.badRequest().body(Map.of("error", "start must be on or before end"));
         }
 
-        DashboardResponse response = dashboardService.loadDashboard(userId, session, rangeStart, rangeEnd);
+        DashboardResponse response = dashboardService.loadDashboard(userId, rangeStart, rangeEnd);
         return ResponseEntity.ok(response);
     }
 
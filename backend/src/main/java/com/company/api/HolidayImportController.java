@@ -5,6 +5,7 @@ import com.company.service.HolidayImportService;
 import com.company.service.SessionService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
@@ -35,6 +36,13 @@ public class HolidayImportController {
         if (request == null) {
             return ResponseEntity.badRequest().body(Map.of("error", "year_required"));
         }
+        if (request.years() != null && !request.years().isEmpty()) {
+            try {
+                return ResponseEntity.ok(holidayImportService.importForYears(actor, request.years()));
+            } catch (IllegalArgumentException ex) {
+                return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+            }
+        }
         HolidayImportResponse response = holidayImportService.importForYear(actor, request.year());
         if ("failure".equalsIgnoreCase(response.outcome())) {
             HttpStatus status = "Year out of allowed range".equalsIgnoreCase(response.message())
@@ -57,6 +65,6 @@ public class HolidayImportController {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Unauthorized"));
     }
 
-    public record ImportRequest(int year) {
+    public record ImportRequest(int year, List<Integer> years) {
     }
 }
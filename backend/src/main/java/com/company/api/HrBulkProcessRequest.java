@@ -0,0 +1,7 @@
+package com.company.api;
+
+import java.util.List;
+import java.util.UUID;
+
+public record HrBulkProcessRequest(List<UUID> requestIds, String hrNotes) {
+}
@@ -1,7 +1,11 @@
 package com.company.api;
 
+import com.company.dto.DeductionJobDto;
 import com.company.dto.HrProcessingDetail;
 import com.company.dto.HrProcessingItem;
+import com.company.model.DeductionJob;
+import com.company.service.HrBulkProcessingResult;
+import com.company.service.HrBulkProcessingService;
 import com.company.service.HrProcessingResult;
 import com.company.service.HrProcessingService;
 import com.company.service.SessionService;
@@ -9,6 +13,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,10 +29,14 @@ import org.springframework.web.bind.annotation.RestController;
 public class HrProcessingController {
 
     private final HrProcessingService hrProcessingService;
+    private final HrBulkProcessingService hrBulkProcessingService;
     private final SessionService sessionService;
 
-    public HrProcessingController(HrProcessingService hrProcessingService, SessionService sessionService) {
+    public HrProcessingController(HrProcessingService hrProcessingService,
+                                  HrBulkProcessingService hrBulkProcessingService,
+                                  SessionService sessionService) {
         this.hrProcessingService = hrProcessingService;
+        this.hrBulkProcessingService = hrBulkProcessingService;
         this.sessionService = sessionService;
     }
 
@@ -91,7 +100,46 @@ public class HrProcessingController {
                 result.request().getManagerNotes(),
                 result.request().getHrNotes()
         );
-        return ResponseEntity.ok(new HrProcessingDetail(item));
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(new HrProcessingDetail(item));
+    }
+
+    @GetMapping("/process/{id}")
+    public ResponseEntity<?> deductionStatus(@PathVariable("id") UUID requestId, HttpServletRequest servletRequest) {
+        UUID hrId = actor(servletRequest);
+        if (hrId == null) {
+            return unauthorized();
+        }
+        Optional<DeductionJob> job = hrProcessingService.findDeductionJob(requestId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "not_found"));
+        }
+        return ResponseEntity.ok(new DeductionJobDto(
+                job.get().getRequestId(),
+                job.get().getStatus().name(),
+                job.get().getAttempts(),
+                job.get().getNextAttemptAt(),
+                job.get().getLastError(),
+                job.get().getCompletedAt()
+        ));
+    }
+
+    @PostMapping("/process/bulk")
+    public ResponseEntity<?> processBulk(@RequestBody HrBulkProcessRequest body, HttpServletRequest servletRequest) {
+        UUID hrId = actor(servletRequest);
+        if (hrId == null) {
+            return unauthorized();
+        }
+        if (body == null || body.requestIds() == null || body.requestIds().isEmpty() || body.requestIds().contains(null)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "request_ids_required"));
+        }
+        if (body.requestIds().size() > hrBulkProcessingService.maxRequests()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                    "error", "too_many_requests",
+                    "message", "At most " + hrBulkProcessingService.maxRequests() + " requests per call"
+            ));
+        }
+        HrBulkProcessingResult result = hrBulkProcessingService.process(hrId, body.requestIds(), body.hrNotes());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(result);
     }
 
     private UUID actor(HttpServletRequest servletRequest) {
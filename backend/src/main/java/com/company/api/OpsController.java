@@ -0,0 +1,172 @@
+package com.company.api;
+
+import com.company.auth.LastLoginRecorder;
+import com.company.integration.CircuitBreakerRegistry;
+import com.company.integration.OutboundHttpClients;
+import com.company.integration.OutboxRelay;
+import com.company.integration.VacationBalanceClient;
+import com.company.ops.EventPublishMonitor;
+import com.company.security.JdbcSessionRepository;
+import com.company.service.AuditWriter;
+import com.company.service.BalanceCache;
+import com.company.service.DeductionWorker;
+import com.company.service.PasswordHashingService;
+import com.company.service.SessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/ops")
+public class OpsController {
+
+    private final SessionService sessionService;
+    private final BalanceCache balanceCache;
+    private final VacationBalanceClient vacationBalanceClient;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final OutboundHttpClients outboundHttpClients;
+    private final AuditWriter auditWriter;
+    private final OutboxRelay outboxRelay;
+    private final EventPublishMonitor eventPublishMonitor;
+    private final DeductionWorker deductionWorker;
+    private final ObjectProvider<JdbcSessionRepository> sessionRepository;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final PasswordHashingService passwordHashingService;
+
+    public OpsController(SessionService sessionService,
+                         BalanceCache balanceCache,
+                         VacationBalanceClient vacationBalanceClient,
+                         CircuitBreakerRegistry circuitBreakerRegistry,
+                         OutboundHttpClients outboundHttpClients,
+                         AuditWriter auditWriter,
+                         OutboxRelay outboxRelay,
+                         EventPublishMonitor eventPublishMonitor,
+                         DeductionWorker deductionWorker,
+                         ObjectProvider<JdbcSessionRepository> sessionRepository,
+                         LastLoginRecorder lastLoginRecorder,
+                         PasswordHashingService passwordHashingService) {
+        this.sessionService = sessionService;
+        this.balanceCache = balanceCache;
+        this.vacationBalanceClient = vacationBalanceClient;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.outboundHttpClients = outboundHttpClients;
+        this.auditWriter = auditWriter;
+        this.outboxRelay = outboxRelay;
+        this.eventPublishMonitor = eventPublishMonitor;
+        this.deductionWorker = deductionWorker;
+        this.sessionRepository = sessionRepository;
+        this.lastLoginRecorder = lastLoginRecorder;
+        this.passwordHashingService = passwordHashingService;
+    }
+
+    @GetMapping("/balance-cache")
+    public ResponseEntity<?> balanceCache(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(balanceCache.stats());
+    }
+
+    @GetMapping("/balance-lookups")
+    public ResponseEntity<?> balanceLookups(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(vacationBalanceClient.lookupStats());
+    }
+
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<?> circuitBreakers(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(circuitBreakerRegistry.snapshots());
+    }
+
+    @GetMapping("/http-clients")
+    public ResponseEntity<?> httpClients(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(outboundHttpClients.stats());
+    }
+
+    @GetMapping("/audit-writer")
+    public ResponseEntity<?> auditWriter(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(auditWriter.stats());
+    }
+
+    @GetMapping("/outbox")
+    public ResponseEntity<?> outbox(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(outboxRelay.stats());
+    }
+
+    @GetMapping("/events")
+    public ResponseEntity<?> events(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(eventPublishMonitor.snapshot());
+    }
+
+    @GetMapping("/deductions")
+    public ResponseEntity<?> deductions(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(deductionWorker.stats());
+    }
+
+    @GetMapping("/sessions")
+    public ResponseEntity<?> sessions(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        JdbcSessionRepository repository = sessionRepository.getIfAvailable();
+        if (repository == null) {
+            return ResponseEntity.ok(Map.of("store", "memory"));
+        }
+        return ResponseEntity.ok(repository.stats());
+    }
+
+    @GetMapping("/logins")
+    public ResponseEntity<?> logins(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(lastLoginRecorder.stats());
+    }
+
+    @GetMapping("/password-hashing")
+    public ResponseEntity<?> passwordHashing(HttpServletRequest request) {
+        if (actor(request) == null) {
+            return unauthorized();
+        }
+        return ResponseEntity.ok(passwordHashingService.stats());
+    }
+
+    private UUID actor(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return null;
+        }
+        return sessionService.getUserId(session);
+    }
+
+    private ResponseEntity<Map<String, String>> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Unauthorized"));
+    }
+}
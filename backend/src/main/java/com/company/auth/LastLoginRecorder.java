@@ -0,0 +1,75 @@
+package com.company.auth;
+
+import com.company.repos.UserLoginRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LastLoginRecorder {
+    private static final Logger log = LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private final UserLoginRepository userLoginRepository;
+    private final Map<UUID, Instant> pending = new ConcurrentHashMap<>();
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+
+    public LastLoginRecorder(UserLoginRepository userLoginRepository) {
+        this.userLoginRepository = userLoginRepository;
+    }
+
+    public void record(UUID userId, Instant loginAt) {
+        recorded.incrementAndGet();
+        pending.merge(userId, loginAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.auth.last-login-flush-ms:10000}",
+            fixedDelayString = "${app.auth.last-login-flush-ms:10000}"
+    )
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<UUID, Instant> batch = new HashMap<>();
+        for (UUID userId : pending.keySet()) {
+            Instant loginAt = pending.remove(userId);
+            if (loginAt != null) {
+                batch.put(userId, loginAt);
+            }
+        }
+        try {
+            userLoginRepository.updateLastLoginTimes(batch);
+            flushes.incrementAndGet();
+            flushedRows.addAndGet(batch.size());
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush {} last-login times, retrying on the next run: {}", batch.size(), ex.getMessage());
+            batch.forEach(this::requeue);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public Stats stats() {
+        return new Stats(pending.size(), recorded.get(), flushes.get(), flushedRows.get());
+    }
+
+    private void requeue(UUID userId, Instant loginAt) {
+        pending.merge(userId, loginAt, (current, next) -> next.isAfter(current) ? next : current);
+    }
+
+    public record Stats(int pending, long recorded, long flushes, long flushedRows) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.company.auth;
 
-import com.company.model.User;
 import com.company.model.UserStatus;
-import com.company.repos.UserRepository;
+import com.company.repos.UserLoginRepository;
+import com.company.repos.UserLoginRepository.LoginCredentials;
+import com.company.service.PasswordHashingService;
+import com.company.service.PasswordHashingService.HashingUnavailableException;
+import com.company.service.PasswordHashingService.Verification;
 import com.company.service.RoleService;
 import com.company.service.SessionService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,10 +13,11 @@ import jakarta.servlet.http.HttpSession;
 import java.time.Instant;
 import java.util.Map;
 import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -23,20 +27,24 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api")
 public class LoginController {
+    private static final Logger log = LoggerFactory.getLogger(LoginController.class);
 
-    private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserLoginRepository userLoginRepository;
+    private final PasswordHashingService passwordHashingService;
     private final SessionService sessionService;
     private final RoleService roleService;
+    private final LastLoginRecorder lastLoginRecorder;
 
-    public LoginController(UserRepository userRepository,
-                           PasswordEncoder passwordEncoder,
+    public LoginController(UserLoginRepository userLoginRepository,
+                           PasswordHashingService passwordHashingService,
                            SessionService sessionService,
-                           RoleService roleService) {
-        this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+                           RoleService roleService,
+                           LastLoginRecorder lastLoginRecorder) {
+        this.userLoginRepository = userLoginRepository;
+        this.passwordHashingService = passwordHashingService;
         this.sessionService = sessionService;
         this.roleService = roleService;
+        this.lastLoginRecorder = lastLoginRecorder;
     }
 
     @PostMapping("/login")
@@ -46,23 +54,33 @@ public class LoginController {
                 || !StringUtils.hasText(request.password())) {
             return error(HttpStatus.BAD_REQUEST, "username and password are required");
         }
-        Optional<User> userOptional = userRepository.findByUsernameIgnoreCase(request.username());
-        if (userOptional.isEmpty()) {
+        Optional<LoginCredentials> credentialsOptional = userLoginRepository.findCredentials(request.username());
+        if (credentialsOptional.isEmpty()) {
             return unauthorized();
         }
-        User user = userOptional.get();
-        if (user.getStatus() != UserStatus.ACTIVE) {
+        LoginCredentials credentials = credentialsOptional.get();
+        if (credentials.status() != UserStatus.ACTIVE) {
             return unauthorized();
         }
-        if (!passwordEncoder.matches(request.password(), user.getPasswordHash())) {
+        Verification verification;
+        try {
+            verification = passwordHashingService.verify(request.password(), credentials.passwordHash());
+        } catch (HashingUnavailableException ex) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Login is busy, please retry"));
+        }
+        if (!verification.matched()) {
             return unauthorized();
         }
+        if (verification.upgradedHash() != null) {
+            upgradePasswordHash(credentials, verification.upgradedHash());
+        }
 
         HttpSession session = sessionService.resetSession(servletRequest);
-        sessionService.establishSession(session, user);
-        user.setLastLoginAt(Instant.now());
-        userRepository.save(user);
-        String homeRoute = roleService.resolveHomeRoute(user.getRoles());
+        sessionService.establishSession(session, credentials.userId(), credentials.roleCodes(), credentials.regionCode());
+        lastLoginRecorder.record(credentials.userId(), Instant.now());
+        String homeRoute = roleService.resolveHomeRouteFromCodes(credentials.roleCodes());
         return ResponseEntity.ok(new LoginResponse(homeRoute));
     }
 
@@ -74,6 +92,14 @@ public class LoginController {
                 .build();
     }
 
+    private void upgradePasswordHash(LoginCredentials credentials, String upgradedHash) {
+        try {
+            userLoginRepository.updatePasswordHash(credentials.userId(), credentials.passwordHash(), upgradedHash);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to upgrade password hash for user {}: {}", credentials.userId(), ex.getMessage());
+        }
+    }
+
     private ResponseEntity<Map<String, String>> unauthorized() {
         return error(HttpStatus.UNAUTHORIZED, "Invalid username or password");
     }
@@ -0,0 +1,28 @@
+package com.company.auth;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PasswordHashConfig {
+
+    @Bean(name = "passwordHashExecutor")
+    public Executor passwordHashExecutor(@Value("${app.security.password-hash.threads:0}") int threads,
+                                         @Value("${app.security.password-hash.queue-capacity:1000}") int queueCapacity) {
+        // Hashing is CPU-bound, so the pool defaults to one thread per core rather than using virtual threads.
+        // A full queue rejects instead of running on the caller, so a login burst cannot spill onto request threads.
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
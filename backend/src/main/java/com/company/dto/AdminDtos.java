@@ -18,6 +18,20 @@ public class AdminDtos {
                                 Instant updatedAt) {
     }
 
+    public record AdminListQuery(Integer page,
+                                 Integer size,
+                                 String sort,
+                                 String search,
+                                 String status) {
+    }
+
+    public record AdminPage<T>(List<T> items,
+                               int page,
+                               int size,
+                               long totalElements,
+                               int totalPages) {
+    }
+
     public record AdminUserRequest(String username,
                                    String displayName,
                                    String password,
@@ -26,6 +40,25 @@ public class AdminDtos {
                                    List<UUID> teamIds) {
     }
 
+    public record UserImportRow(String username,
+                                String displayName,
+                                String password,
+                                String status,
+                                List<String> roles,
+                                List<String> teams) {
+    }
+
+    public record UserImportError(int row,
+                                  String username,
+                                  String error) {
+    }
+
+    public record UserImportResult(int total,
+                                   int imported,
+                                   int failed,
+                                   List<UserImportError> errors) {
+    }
+
     public record AdminTeamView(UUID id,
                                 String name,
                                 String status,
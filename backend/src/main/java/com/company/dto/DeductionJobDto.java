@@ -0,0 +1,12 @@
+package com.company.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record DeductionJobDto(UUID requestId,
+                              String status,
+                              int attempts,
+                              Instant nextAttemptAt,
+                              String lastError,
+                              Instant completedAt) {
+}
@@ -0,0 +1,83 @@
+package com.company.integration;
+
+import com.company.model.IntegrationConfig;
+import com.company.model.IntegrationState;
+import com.company.model.IntegrationType;
+import com.company.repos.IntegrationConfigRepository;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class ActiveIntegrationConfigs {
+    private static final Logger log = LoggerFactory.getLogger(ActiveIntegrationConfigs.class);
+
+    private final IntegrationConfigRepository integrationConfigRepository;
+    private volatile Map<IntegrationType, IntegrationConfig> snapshot;
+
+    public ActiveIntegrationConfigs(IntegrationConfigRepository integrationConfigRepository) {
+        this.integrationConfigRepository = integrationConfigRepository;
+    }
+
+    public Optional<IntegrationConfig> find(IntegrationType type) {
+        Map<IntegrationType, IntegrationConfig> current = snapshot;
+        if (current == null) {
+            current = reload();
+        }
+        return Optional.ofNullable(current.get(type));
+    }
+
+    public void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            reload();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                reload();
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.integration.config-refresh-ms:60000}",
+            fixedDelayString = "${app.integration.config-refresh-ms:60000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("Integration config refresh failed, keeping previous snapshot: {}", ex.getMessage());
+        }
+    }
+
+    public synchronized Map<IntegrationType, IntegrationConfig> reload() {
+        List<IntegrationConfig> configs = integrationConfigRepository.findByState(IntegrationState.CONFIGURED);
+        Map<IntegrationType, IntegrationConfig> loaded = new EnumMap<>(IntegrationType.class);
+        for (IntegrationConfig config : configs) {
+            loaded.putIfAbsent(config.getType(), copyOf(config));
+        }
+        Map<IntegrationType, IntegrationConfig> published = Collections.unmodifiableMap(loaded);
+        snapshot = published;
+        return published;
+    }
+
+    private IntegrationConfig copyOf(IntegrationConfig source) {
+        IntegrationConfig copy = new IntegrationConfig();
+        copy.setId(source.getId());
+        copy.setType(source.getType());
+        copy.setState(source.getState());
+        copy.setEndpointUrl(source.getEndpointUrl());
+        copy.setAuthToken(source.getAuthToken());
+        return copy;
+    }
+}
@@ -0,0 +1,37 @@
+package com.company.integration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class BalanceLookupConfig {
+
+    @Bean(name = "balanceLookupExecutor")
+    public Executor balanceLookupExecutor(@Value("${app.integration.balance.max-concurrency:8}") int maxConcurrency,
+                                          @Value("${app.integration.balance.queue-capacity:500}") int queueCapacity,
+                                          Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // One virtual thread per lookup; the limit still caps concurrent INT-001 calls and blocks the submitter when reached.
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("balance-lookup-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(maxConcurrency);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("balance-lookup-");
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(queueCapacity);
+        // When the lookup pool is saturated the request thread runs the lookup itself instead of failing.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
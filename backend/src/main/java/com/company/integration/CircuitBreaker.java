@@ -0,0 +1,142 @@
+package com.company.integration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CircuitBreaker {
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int recordedCalls;
+    private int failedCalls;
+    private int nextSlot;
+    private boolean probeInFlight;
+    private Instant openedAt;
+    private long tripCount;
+    private long rejectedCalls;
+
+    public CircuitBreaker(String name,
+                          int windowSize,
+                          int minimumCalls,
+                          int failureRateThreshold,
+                          Duration openDuration,
+                          Clock clock) {
+        this.name = name;
+        this.outcomes = new boolean[Math.max(windowSize, 1)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.instant().isBefore(openedAt.plus(openDuration))) {
+                rejectedCalls++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+            log.info("Circuit {} half-open, probing", name);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                rejectedCalls++;
+                return false;
+            }
+            probeInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            log.info("Circuit {} closed after successful probe", name);
+            state = State.CLOSED;
+            resetWindow();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            trip();
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(true);
+            if (recordedCalls >= minimumCalls && failureRate() >= failureRateThreshold) {
+                trip();
+            }
+        }
+    }
+
+    public synchronized Snapshot snapshot() {
+        return new Snapshot(name, state.name(), failureRate(), recordedCalls, tripCount, rejectedCalls, openedAt);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private void record(boolean failed) {
+        if (recordedCalls == outcomes.length) {
+            if (outcomes[nextSlot]) {
+                failedCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        outcomes[nextSlot] = failed;
+        if (failed) {
+            failedCalls++;
+        }
+        nextSlot = (nextSlot + 1) % outcomes.length;
+    }
+
+    private void trip() {
+        state = State.OPEN;
+        openedAt = clock.instant();
+        probeInFlight = false;
+        tripCount++;
+        resetWindow();
+        log.warn("Circuit {} opened for {} (trip #{})", name, openDuration, tripCount);
+    }
+
+    private void resetWindow() {
+        recordedCalls = 0;
+        failedCalls = 0;
+        nextSlot = 0;
+        probeInFlight = false;
+    }
+
+    private int failureRate() {
+        return recordedCalls == 0 ? 0 : (failedCalls * 100) / recordedCalls;
+    }
+
+    public record Snapshot(String name,
+                           String state,
+                           int failureRatePercent,
+                           int bufferedCalls,
+                           long tripCount,
+                           long rejectedCalls,
+                           Instant openedAt) {
+    }
+}
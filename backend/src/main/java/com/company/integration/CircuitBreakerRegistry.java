@@ -0,0 +1,48 @@
+package com.company.integration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CircuitBreakerRegistry {
+
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration openDuration;
+
+    public CircuitBreakerRegistry(@Value("${app.integration.circuit-breaker.window-size:20}") int windowSize,
+                                  @Value("${app.integration.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                  @Value("${app.integration.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                                  @Value("${app.integration.circuit-breaker.open-duration:PT30S}") Duration openDuration) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+    }
+
+    public CircuitBreaker forIntegration(String name) {
+        return breakers.computeIfAbsent(name, key -> new CircuitBreaker(
+                key,
+                windowSize,
+                minimumCalls,
+                failureRateThreshold,
+                openDuration,
+                Clock.systemUTC()
+        ));
+    }
+
+    public List<CircuitBreaker.Snapshot> snapshots() {
+        return breakers.values().stream()
+                .map(CircuitBreaker::snapshot)
+                .sorted(Comparator.comparing(CircuitBreaker.Snapshot::name))
+                .toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.integration;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DeductionExecutorConfig {
+
+    @Bean(name = "deductionExecutor")
+    public Executor deductionExecutor(@Value("${app.deductions.parallelism:8}") int parallelism,
+                                      Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("hr-deduction-");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("hr-deduction-").getVirtualThreadFactory());
+        }
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        // DeductionWorker never claims more than parallelism jobs; the small queue only absorbs workers that are still finishing.
+        executor.setQueueCapacity(parallelism);
+        // Never run INT-001 on the scheduler thread; a rejected job stays IN_PROGRESS and is reclaimed when its lease expires.
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
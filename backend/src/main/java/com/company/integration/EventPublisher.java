@@ -3,38 +3,64 @@ package com.company.integration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import com.company.model.OutboxEvent;
 import com.company.ops.EventPublishMonitor;
+import com.company.repos.OutboxEventBatchRepository;
+import com.company.repos.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.support.TransactionSynchronization;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 public class EventPublisher {
     private static final Logger log = LoggerFactory.getLogger(EventPublisher.class);
+    private static final int MAX_ATTEMPTS = 3;
 
     private final Executor eventPublisherExecutor;
     private final EventPublishMonitor eventPublishMonitor;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventBatchRepository outboxEventBatchRepository;
+    private final ObjectMapper objectMapper;
+    private final IntegrationRetrier integrationRetrier;
+    private final EventRejectionPolicy rejectionPolicy;
 
     public EventPublisher(@Qualifier("eventPublisherExecutor") Executor eventPublisherExecutor,
-                          EventPublishMonitor eventPublishMonitor) {
+                          EventPublishMonitor eventPublishMonitor,
+                          OutboxEventRepository outboxEventRepository,
+                          OutboxEventBatchRepository outboxEventBatchRepository,
+                          ObjectMapper objectMapper,
+                          IntegrationRetrier integrationRetrier,
+                          @Value("${app.events.dispatch.rejection-policy:CALLER_RUNS}") EventRejectionPolicy rejectionPolicy) {
         this.eventPublisherExecutor = eventPublisherExecutor;
         this.eventPublishMonitor = eventPublishMonitor;
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxEventBatchRepository = outboxEventBatchRepository;
+        this.objectMapper = objectMapper;
+        this.integrationRetrier = integrationRetrier;
+        this.rejectionPolicy = rejectionPolicy;
     }
 
     public void publishPostCommit(String eventType, Map<String, Object> payload) {
-        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
-            dispatch(eventType, payload, 0);
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(eventType);
+        event.setPayload(serialize(eventType, payload));
+        outboxEventRepository.save(event);
+    }
+
+    public void publishAllPostCommit(String eventType, List<Map<String, Object>> payloads) {
+        if (payloads.isEmpty()) {
             return;
         }
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                dispatch(eventType, payload, 0);
-            }
-        });
+        List<String> serialized = new ArrayList<>(payloads.size());
+        payloads.forEach(payload -> serialized.add(serialize(eventType, payload)));
+        outboxEventBatchRepository.insertPending(eventType, serialized);
     }
 
     public void publishImmediate(String eventType, Map<String, Object> payload) {
@@ -42,31 +68,55 @@ public class EventPublisher {
     }
 
     private void dispatch(String eventType, Map<String, Object> payload, int attempt) {
-        eventPublisherExecutor.execute(() -> attemptPublish(eventType, payload, attempt));
+        long enqueuedAt = System.nanoTime();
+        try {
+            eventPublisherExecutor.execute(new Dispatch(eventType, attempt,
+                    () -> attemptPublish(eventType, payload, attempt, enqueuedAt)));
+        } catch (RejectedExecutionException ex) {
+            if (attempt > 0) {
+                eventPublishMonitor.recordEventFailure(eventType, attempt);
+            } else if (rejectionPolicy == EventRejectionPolicy.ABORT) {
+                throw ex;
+            }
+        }
     }
 
-    private void attemptPublish(String eventType, Map<String, Object> payload, int attempt) {
-        int maxAttempts = 3;
+    void deliver(String eventType, Map<String, Object> payload) {
+        // Placeholder for actual sink integration
+        log.info("Publishing event={} payload={}", eventType, payload);
+    }
+
+    private void attemptPublish(String eventType, Map<String, Object> payload, int attempt, long enqueuedAt) {
+        long queueWaitNanos = System.nanoTime() - enqueuedAt;
         try {
-            // Placeholder for actual sink integration
-            log.info("Publishing event={} attempt={} payload={}", eventType, attempt + 1, payload);
+            deliver(eventType, payload);
+            eventPublishMonitor.recordPublished(eventType, queueWaitNanos);
         } catch (Exception ex) {
             log.warn("Event publish failed for {} attempt {}: {}", eventType, attempt + 1, ex.getMessage());
-            if (attempt + 1 < maxAttempts) {
-                sleep(Duration.ofSeconds((long) Math.pow(2, attempt + 1)));
-                dispatch(eventType, payload, attempt + 1);
+            if (attempt + 1 < MAX_ATTEMPTS) {
+                eventPublishMonitor.recordRetried(eventType);
+                Duration backoff = Duration.ofSeconds(1L << (attempt + 1));
+                if (!integrationRetrier.schedule(() -> dispatch(eventType, payload, attempt + 1), backoff)) {
+                    eventPublishMonitor.recordEventFailure(eventType, attempt + 1);
+                }
             } else {
-                log.error("Event publish permanently failed for {} after {} attempts", eventType, maxAttempts);
-                eventPublishMonitor.recordEventFailure(eventType, maxAttempts);
+                eventPublishMonitor.recordEventFailure(eventType, MAX_ATTEMPTS);
             }
         }
     }
 
-    private void sleep(Duration duration) {
+    record Dispatch(String eventType, int attempt, Runnable body) implements Runnable {
+        @Override
+        public void run() {
+            body.run();
+        }
+    }
+
+    private String serialize(String eventType, Map<String, Object> payload) {
         try {
-            Thread.sleep(duration.toMillis());
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Event payload is not serializable: " + eventType, ex);
         }
     }
 }
@@ -1,19 +1,40 @@
 package com.company.integration;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import com.company.ops.EventPublishMonitor;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class EventPublisherConfig {
 
     @Bean(name = "eventPublisherExecutor")
-    public Executor eventPublisherExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    public Executor eventPublisherExecutor(@Value("${app.events.dispatch.queue-capacity:1000}") int queueCapacity,
+                                           @Value("${app.events.dispatch.rejection-policy:CALLER_RUNS}") EventRejectionPolicy rejectionPolicy,
+                                           EventPublishMonitor eventPublishMonitor,
+                                           Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            protected BlockingQueue<Runnable> createQueue(int capacity) {
+                return new ArrayBlockingQueue<>(capacity);
+            }
+        };
         executor.setThreadNamePrefix("event-pub-");
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // Same bounded queue and rejection policy in both modes; only the worker threads become virtual.
+            executor.setThreadFactory(new VirtualThreadTaskExecutor("event-pub-").getVirtualThreadFactory());
+        }
         executor.setCorePoolSize(2);
         executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(Math.max(1, queueCapacity));
+        executor.setRejectedExecutionHandler(new EventRejectionHandler(rejectionPolicy, eventPublishMonitor));
         executor.initialize();
         return executor;
     }
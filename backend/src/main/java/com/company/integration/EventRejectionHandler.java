@@ -0,0 +1,32 @@
+package com.company.integration;
+
+import com.company.ops.EventPublishMonitor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+final class EventRejectionHandler implements RejectedExecutionHandler {
+
+    private final EventRejectionPolicy policy;
+    private final EventPublishMonitor eventPublishMonitor;
+
+    EventRejectionHandler(EventRejectionPolicy policy, EventPublishMonitor eventPublishMonitor) {
+        this.policy = policy;
+        this.eventPublishMonitor = eventPublishMonitor;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        EventPublisher.Dispatch dispatch = task instanceof EventPublisher.Dispatch d ? d : null;
+        String eventType = dispatch != null ? dispatch.eventType() : "unknown";
+        // Retries are redispatched from the retry scheduler thread, which must never run deliver itself.
+        boolean retry = dispatch != null && dispatch.attempt() > 0;
+        if (policy == EventRejectionPolicy.CALLER_RUNS && !retry && !executor.isShutdown()) {
+            eventPublishMonitor.recordCallerRun(eventType);
+            task.run();
+            return;
+        }
+        eventPublishMonitor.recordRejected(eventType);
+        throw new RejectedExecutionException("Event dispatch queue full for " + eventType);
+    }
+}
@@ -0,0 +1,7 @@
+package com.company.integration;
+
+public enum EventRejectionPolicy {
+    CALLER_RUNS,
+    DROP,
+    ABORT
+}
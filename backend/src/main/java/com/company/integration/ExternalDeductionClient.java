@@ -1,17 +1,14 @@
 package com.company.integration;
 
 import com.company.model.IntegrationConfig;
-import com.company.model.IntegrationState;
 import com.company.model.IntegrationType;
 import com.company.ops.EventPublishMonitor;
-import com.company.repos.IntegrationConfigRepository;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -25,25 +22,29 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class ExternalDeductionClient {
     private static final Logger log = LoggerFactory.getLogger(ExternalDeductionClient.class);
+    public static final String CIRCUIT_NAME = "external-deduction";
+    private static final List<Duration> BACKOFF = List.of(Duration.ZERO, Duration.ofSeconds(1), Duration.ofSeconds(2));
 
-    private final IntegrationConfigRepository integrationConfigRepository;
+    private final ActiveIntegrationConfigs activeIntegrationConfigs;
     private final RestTemplate restTemplate;
     private final EventPublishMonitor eventPublishMonitor;
+    private final CircuitBreaker circuitBreaker;
+    private final IntegrationRetrier integrationRetrier;
 
-    public ExternalDeductionClient(IntegrationConfigRepository integrationConfigRepository,
-                                   RestTemplateBuilder builder,
-                                   EventPublishMonitor eventPublishMonitor) {
-        this.integrationConfigRepository = integrationConfigRepository;
-        this.restTemplate = builder
-                .setConnectTimeout(Duration.ofSeconds(3))
-                .setReadTimeout(Duration.ofSeconds(3))
-                .build();
+    public ExternalDeductionClient(ActiveIntegrationConfigs activeIntegrationConfigs,
+                                   OutboundHttpClients outboundHttpClients,
+                                   EventPublishMonitor eventPublishMonitor,
+                                   CircuitBreakerRegistry circuitBreakerRegistry,
+                                   IntegrationRetrier integrationRetrier) {
+        this.activeIntegrationConfigs = activeIntegrationConfigs;
+        this.restTemplate = outboundHttpClients.restTemplate(CIRCUIT_NAME, Duration.ofSeconds(3), Duration.ofSeconds(3));
         this.eventPublishMonitor = eventPublishMonitor;
+        this.circuitBreaker = circuitBreakerRegistry.forIntegration(CIRCUIT_NAME);
+        this.integrationRetrier = integrationRetrier;
     }
 
     public DeductionResult deduct(UUID requestId, UUID employeeId, int numberOfDays) {
-        Optional<IntegrationConfig> configOptional = integrationConfigRepository
-                .findFirstByTypeAndState(IntegrationType.VACATION_BALANCE, IntegrationState.CONFIGURED);
+        Optional<IntegrationConfig> configOptional = activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE);
         if (configOptional.isEmpty()) {
             return DeductionResult.unavailableResult("Integration not configured");
         }
@@ -59,35 +60,34 @@ public class ExternalDeductionClient {
         DeductionRequest payload = new DeductionRequest(requestId.toString(), employeeId.toString(), numberOfDays);
         HttpEntity<DeductionRequest> entity = new HttpEntity<>(payload, headers);
 
-        int[] backoffSeconds = new int[]{0, 1, 2};
-        for (int attempt = 0; attempt < backoffSeconds.length; attempt++) {
-            if (backoffSeconds[attempt] > 0) {
-                sleep(backoffSeconds[attempt]);
-            }
-            try {
-                log.info("Calling INT-001 deduction attempt={} requestId={}", attempt + 1, requestId);
-                ResponseEntity<DeductionResponse> response = restTemplate
-                        .exchange(config.getEndpointUrl(), HttpMethod.POST, entity, DeductionResponse.class);
-                if (response.getStatusCode().is2xxSuccessful()) {
-                    return DeductionResult.successResult();
-                }
-                log.warn("INT-001 deduction unexpected status attempt={} status={}", attempt + 1, response.getStatusCode());
-            } catch (ResourceAccessException ex) {
-                log.warn("INT-001 deduction timeout attempt={} requestId={}", attempt + 1, requestId);
-            } catch (Exception ex) {
-                log.warn("INT-001 deduction error attempt={} requestId={} error={}", attempt + 1, requestId, ex.getMessage());
-            }
+        Optional<DeductionResult> result = integrationRetrier
+                .execute(circuitBreaker, BACKOFF, attempt -> callOnce(config, entity, requestId, attempt))
+                .join();
+        if (result.isPresent()) {
+            return result.get();
         }
         eventPublishMonitor.recordDeductionFailure(requestId, "External balance system unavailable");
         return DeductionResult.unavailableResult("External balance system unavailable");
     }
 
-    private void sleep(int seconds) {
+    private Optional<DeductionResult> callOnce(IntegrationConfig config,
+                                               HttpEntity<DeductionRequest> entity,
+                                               UUID requestId,
+                                               int attempt) {
         try {
-            Thread.sleep(Duration.ofSeconds(seconds).toMillis());
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
+            log.info("Calling INT-001 deduction attempt={} requestId={}", attempt, requestId);
+            ResponseEntity<DeductionResponse> response = restTemplate
+                    .exchange(config.getEndpointUrl(), HttpMethod.POST, entity, DeductionResponse.class);
+            if (response.getStatusCode().is2xxSuccessful()) {
+                return Optional.of(DeductionResult.successResult());
+            }
+            log.warn("INT-001 deduction unexpected status attempt={} status={}", attempt, response.getStatusCode());
+        } catch (ResourceAccessException ex) {
+            log.warn("INT-001 deduction timeout attempt={} requestId={}", attempt, requestId);
+        } catch (Exception ex) {
+            log.warn("INT-001 deduction error attempt={} requestId={} error={}", attempt, requestId, ex.getMessage());
         }
+        return Optional.empty();
     }
 
     RestTemplate restTemplate() {
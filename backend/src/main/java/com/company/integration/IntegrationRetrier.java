@@ -0,0 +1,123 @@
+package com.company.integration;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class IntegrationRetrier {
+    private static final Logger log = LoggerFactory.getLogger(IntegrationRetrier.class);
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ThreadPoolExecutor attemptExecutor;
+
+    public IntegrationRetrier(@Value("${app.integration.retry.threads:4}") int threads,
+                              @Value("${app.integration.retry.attempt-threads:16}") int attemptThreads,
+                              @Value("${app.integration.retry.attempt-queue-capacity:500}") int attemptQueueCapacity) {
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, daemonThreads("integration-retry-"));
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        // The scheduler only waits out delays; the blocking retry attempts run on this bounded pool.
+        this.attemptExecutor = new ThreadPoolExecutor(attemptThreads, attemptThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, attemptQueueCapacity)), daemonThreads("integration-attempt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.attemptExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    // First attempt runs on the calling thread; later attempts are scheduled, never slept for.
+    public <T> CompletableFuture<Optional<T>> execute(CircuitBreaker breaker, List<Duration> delays, Attempt<T> attempt) {
+        CompletableFuture<Optional<T>> result = new CompletableFuture<>();
+        run(breaker, delays, attempt, 0, result);
+        return result;
+    }
+
+    private <T> void run(CircuitBreaker breaker,
+                         List<Duration> delays,
+                         Attempt<T> attempt,
+                         int index,
+                         CompletableFuture<Optional<T>> result) {
+        if (!breaker.tryAcquire()) {
+            log.warn("Circuit {} is open, skipping attempt {}", breaker.name(), index + 1);
+            result.complete(Optional.empty());
+            return;
+        }
+        Optional<T> outcome;
+        try {
+            outcome = attempt.call(index + 1);
+        } catch (RuntimeException ex) {
+            log.warn("Attempt {} on {} failed: {}", index + 1, breaker.name(), ex.getMessage());
+            outcome = Optional.empty();
+        }
+        if (outcome.isPresent()) {
+            breaker.onSuccess();
+            result.complete(outcome);
+            return;
+        }
+        breaker.onFailure();
+        int next = index + 1;
+        if (next >= delays.size()) {
+            result.complete(Optional.empty());
+            return;
+        }
+        try {
+            scheduler.schedule(() -> runScheduled(breaker, delays, attempt, next, result),
+                    delays.get(next).toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            result.complete(Optional.empty());
+        }
+    }
+
+    private <T> void runScheduled(CircuitBreaker breaker,
+                                  List<Duration> delays,
+                                  Attempt<T> attempt,
+                                  int index,
+                                  CompletableFuture<Optional<T>> result) {
+        try {
+            attemptExecutor.execute(() -> run(breaker, delays, attempt, index, result));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Retry pool is saturated, dropping attempt {} on {}", index + 1, breaker.name());
+            result.complete(Optional.empty());
+        }
+    }
+
+    public boolean schedule(Runnable task, Duration delay) {
+        try {
+            scheduler.schedule(task, delay.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        attemptExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @FunctionalInterface
+    public interface Attempt<T> {
+        Optional<T> call(int attemptNumber);
+    }
+}
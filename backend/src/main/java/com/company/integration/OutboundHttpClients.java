@@ -0,0 +1,269 @@
+package com.company.integration;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import javax.net.ssl.SSLContext;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.socket.ConnectionSocketFactory;
+import org.apache.hc.client5.http.socket.PlainConnectionSocketFactory;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class OutboundHttpClients {
+    private static final Logger log = LoggerFactory.getLogger(OutboundHttpClients.class);
+
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final int maxConnectionsPerRoute;
+    private final int maxConnectionsTotal;
+    private final Duration keepAlive;
+    private final boolean http2Enabled;
+    private final Map<String, Pool> pools = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(RestTemplateBuilder restTemplateBuilder,
+                               @Value("${app.integration.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+                               @Value("${app.integration.http.max-connections-total:50}") int maxConnectionsTotal,
+                               @Value("${app.integration.http.keep-alive:PT30S}") Duration keepAlive,
+                               @Value("${app.integration.http.http2-enabled:false}") boolean http2Enabled) {
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.maxConnectionsPerRoute = Math.max(1, maxConnectionsPerRoute);
+        this.maxConnectionsTotal = Math.max(this.maxConnectionsPerRoute, maxConnectionsTotal);
+        this.keepAlive = keepAlive;
+        this.http2Enabled = http2Enabled;
+    }
+
+    public RestTemplate restTemplate(String name, Duration connectTimeout, Duration readTimeout) {
+        Pool pool = new Pool(name, http2Enabled ? "HTTP/2" : "HTTP/1.1");
+        Pool previous = pools.put(name, pool);
+        if (previous != null) {
+            previous.close();
+        }
+        ClientHttpRequestFactory requestFactory = http2Enabled
+                ? jdkRequestFactory(connectTimeout, readTimeout)
+                : pooledRequestFactory(pool, connectTimeout, readTimeout);
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .additionalInterceptors(pool.timingInterceptor())
+                .build();
+    }
+
+    public List<Stats> stats() {
+        List<Stats> stats = new ArrayList<>();
+        pools.values().forEach(pool -> stats.add(pool.stats()));
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pools.values().forEach(Pool::close);
+        pools.clear();
+    }
+
+    private ClientHttpRequestFactory pooledRequestFactory(Pool pool, Duration connectTimeout, Duration readTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                RegistryBuilder.<ConnectionSocketFactory>create()
+                        .register("http", new TimedPlainSocketFactory(pool))
+                        .register("https", new TimedSslSocketFactory(SSLContexts.createSystemDefault(), pool))
+                        .build()
+        );
+        connectionManager.setMaxTotal(maxConnectionsTotal);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(connectTimeout))
+                .setSocketTimeout(Timeout.of(readTimeout))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+        TimeValue keepAliveValue = TimeValue.of(keepAlive);
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(connectTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return advertised.compareTo(keepAliveValue) < 0 ? advertised : keepAliveValue;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveValue)
+                .build();
+        pool.attach(connectionManager, httpClient);
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    private ClientHttpRequestFactory jdkRequestFactory(Duration connectTimeout, Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    public record Stats(String name,
+                        String protocol,
+                        int leased,
+                        int pending,
+                        int available,
+                        int max,
+                        long requests,
+                        long connectionsOpened,
+                        double connectionReusePercent,
+                        double avgConnectMillis,
+                        double avgResponseMillis,
+                        long maxResponseMillis) {
+    }
+
+    private static final class Pool {
+        private final String name;
+        private final String protocol;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong responseNanos = new AtomicLong();
+        private final LongAccumulator maxResponseNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLong connects = new AtomicLong();
+        private final AtomicLong connectNanos = new AtomicLong();
+        private volatile PoolingHttpClientConnectionManager connectionManager;
+        private volatile CloseableHttpClient httpClient;
+
+        private Pool(String name, String protocol) {
+            this.name = name;
+            this.protocol = protocol;
+        }
+
+        void attach(PoolingHttpClientConnectionManager connectionManager, CloseableHttpClient httpClient) {
+            this.connectionManager = connectionManager;
+            this.httpClient = httpClient;
+        }
+
+        ClientHttpRequestInterceptor timingInterceptor() {
+            return (request, body, execution) -> {
+                long started = System.nanoTime();
+                try {
+                    return execution.execute(request, body);
+                } finally {
+                    long elapsed = System.nanoTime() - started;
+                    requests.incrementAndGet();
+                    responseNanos.addAndGet(elapsed);
+                    maxResponseNanos.accumulate(elapsed);
+                }
+            };
+        }
+
+        void recordConnect(long nanos) {
+            connects.incrementAndGet();
+            connectNanos.addAndGet(nanos);
+        }
+
+        Stats stats() {
+            PoolingHttpClientConnectionManager manager = connectionManager;
+            PoolStats poolStats = manager == null ? null : manager.getTotalStats();
+            long requestCount = requests.get();
+            long connectCount = connects.get();
+            double reuse = requestCount == 0 || manager == null
+                    ? 0.0
+                    : Math.max(0.0, 100.0 * (requestCount - connectCount) / requestCount);
+            return new Stats(
+                    name,
+                    protocol,
+                    poolStats == null ? 0 : poolStats.getLeased(),
+                    poolStats == null ? 0 : poolStats.getPending(),
+                    poolStats == null ? 0 : poolStats.getAvailable(),
+                    poolStats == null ? 0 : poolStats.getMax(),
+                    requestCount,
+                    connectCount,
+                    reuse,
+                    connectCount == 0 ? 0.0 : connectNanos.get() / 1_000_000.0 / connectCount,
+                    requestCount == 0 ? 0.0 : responseNanos.get() / 1_000_000.0 / requestCount,
+                    maxResponseNanos.get() / 1_000_000
+            );
+        }
+
+        void close() {
+            CloseableHttpClient client = httpClient;
+            if (client == null) {
+                return;
+            }
+            try {
+                client.close();
+            } catch (IOException ex) {
+                log.warn("Failed to close outbound HTTP client {}: {}", name, ex.getMessage());
+            }
+        }
+    }
+
+    private static final class TimedPlainSocketFactory extends PlainConnectionSocketFactory {
+        private final Pool pool;
+
+        private TimedPlainSocketFactory(Pool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public Socket connectSocket(TimeValue connectTimeout,
+                                    Socket socket,
+                                    HttpHost host,
+                                    InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress,
+                                    HttpContext context) throws IOException {
+            long started = System.nanoTime();
+            Socket connected = super.connectSocket(connectTimeout, socket, host, remoteAddress, localAddress, context);
+            pool.recordConnect(System.nanoTime() - started);
+            return connected;
+        }
+    }
+
+    private static final class TimedSslSocketFactory extends SSLConnectionSocketFactory {
+        private final Pool pool;
+
+        private TimedSslSocketFactory(SSLContext sslContext, Pool pool) {
+            super(sslContext);
+            this.pool = pool;
+        }
+
+        @Override
+        public Socket connectSocket(Socket socket,
+                                    HttpHost host,
+                                    InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress,
+                                    Timeout connectTimeout,
+                                    Object attachment,
+                                    HttpContext context) throws IOException {
+            long started = System.nanoTime();
+            Socket connected = super.connectSocket(socket, host, remoteAddress, localAddress, connectTimeout, attachment, context);
+            pool.recordConnect(System.nanoTime() - started);
+            return connected;
+        }
+    }
+}
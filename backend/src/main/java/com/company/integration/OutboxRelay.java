@@ -0,0 +1,156 @@
+package com.company.integration;
+
+import com.company.model.OutboxEvent;
+import com.company.model.OutboxStatus;
+import com.company.ops.EventPublishMonitor;
+import com.company.repos.OutboxEventRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class OutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EventPublisher eventPublisher;
+    private final EventPublishMonitor eventPublishMonitor;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBase;
+    private final Duration retention;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile int lastBatchSize;
+    private volatile long lastDeliveryLagMillis;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       EventPublisher eventPublisher,
+                       EventPublishMonitor eventPublishMonitor,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${app.events.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.events.outbox.max-attempts:5}") int maxAttempts,
+                       @Value("${app.events.outbox.retry-base:PT2S}") Duration retryBase,
+                       @Value("${app.events.outbox.retention:P7D}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.eventPublishMonitor = eventPublishMonitor;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBase = retryBase;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.outbox.poll-ms:1000}")
+    public void relay() {
+        try {
+            BatchResult result;
+            do {
+                result = transactionTemplate.execute(status -> relayBatch());
+            } while (result != null && !result.blocked() && result.processed() == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Outbox relay pass failed: {}", ex.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.events.outbox.purge-ms:3600000}")
+    public void purgeDelivered() {
+        Instant cutoff = Instant.now().minus(retention);
+        Integer purged = transactionTemplate.execute(status ->
+                outboxEventRepository.deleteDeliveredBefore(OutboxStatus.DELIVERED, cutoff));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} delivered outbox events older than {}", purged, cutoff);
+        }
+    }
+
+    public Stats stats() {
+        Instant now = Instant.now();
+        long oldestPendingAgeMillis = outboxEventRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+                .map(event -> Duration.between(event.getCreatedAt(), now).toMillis())
+                .orElse(0L);
+        return new Stats(
+                outboxEventRepository.countByStatus(OutboxStatus.PENDING),
+                oldestPendingAgeMillis,
+                lastDeliveryLagMillis,
+                lastBatchSize,
+                delivered.get(),
+                retried.get(),
+                failed.get()
+        );
+    }
+
+    BatchResult relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(OutboxStatus.PENDING, PageRequest.of(0, batchSize));
+        Instant now = Instant.now();
+        int processed = 0;
+        for (OutboxEvent event : batch) {
+            if (event.getNextAttemptAt().isAfter(now)) {
+                lastBatchSize = processed;
+                return new BatchResult(processed, true);
+            }
+            try {
+                eventPublisher.deliver(event.getEventType(), objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE));
+                event.setStatus(OutboxStatus.DELIVERED);
+                event.setDeliveredAt(now);
+                event.setAttempts(event.getAttempts() + 1);
+                delivered.incrementAndGet();
+                Duration lag = Duration.between(event.getCreatedAt(), now);
+                lastDeliveryLagMillis = lag.toMillis();
+                eventPublishMonitor.recordPublished(event.getEventType(), lag.toNanos());
+                processed++;
+            } catch (Exception ex) {
+                int attempts = event.getAttempts() + 1;
+                event.setAttempts(attempts);
+                event.setLastError(ex.getMessage());
+                if (attempts >= maxAttempts) {
+                    event.setStatus(OutboxStatus.FAILED);
+                    failed.incrementAndGet();
+                    eventPublishMonitor.recordEventFailure(event.getEventType(), attempts);
+                    processed++;
+                    continue;
+                }
+                event.setNextAttemptAt(now.plus(retryBase.multipliedBy(1L << (attempts - 1))));
+                retried.incrementAndGet();
+                eventPublishMonitor.recordRetried(event.getEventType());
+                log.warn("Outbox delivery failed for event {} ({}), attempt {}: {}",
+                        event.getId(), event.getEventType(), attempts, ex.getMessage());
+                lastBatchSize = processed;
+                return new BatchResult(processed, true);
+            }
+        }
+        lastBatchSize = processed;
+        return new BatchResult(processed, false);
+    }
+
+    record BatchResult(int processed, boolean blocked) {
+    }
+
+    public record Stats(long backlog,
+                        long oldestPendingAgeMillis,
+                        long lastDeliveryLagMillis,
+                        int lastBatchSize,
+                        long delivered,
+                        long retried,
+                        long failed) {
+    }
+}
@@ -0,0 +1,45 @@
+package com.company.integration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executions = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return existing;
+        }
+        executions.incrementAndGet();
+        CompletableFuture<V> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException ex) {
+            loaded = CompletableFuture.failedFuture(ex);
+        }
+        loaded.whenComplete((value, error) -> {
+            inFlight.remove(key, call);
+            if (error != null) {
+                call.completeExceptionally(error);
+            } else {
+                call.complete(value);
+            }
+        });
+        return call;
+    }
+
+    public Stats stats() {
+        return new Stats(executions.get(), coalesced.get(), inFlight.size());
+    }
+
+    public record Stats(long executions, long coalesced, int inFlight) {
+    }
+}
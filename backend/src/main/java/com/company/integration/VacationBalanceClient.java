@@ -1,17 +1,24 @@
 package com.company.integration;
 
 import com.company.model.IntegrationConfig;
-import com.company.model.IntegrationState;
 import com.company.model.IntegrationType;
-import com.company.repos.IntegrationConfigRepository;
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -25,27 +32,83 @@ import org.springframework.web.client.RestTemplate;
 @Component
 public class VacationBalanceClient {
     private static final Logger log = LoggerFactory.getLogger(VacationBalanceClient.class);
+    public static final String CIRCUIT_NAME = "vacation-balance";
+    private static final List<Duration> BACKOFF = List.of(
+            Duration.ZERO,
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(2),
+            Duration.ofSeconds(4)
+    );
+    private static final String UNAVAILABLE_REASON = "External balance system unavailable";
 
-    private final IntegrationConfigRepository integrationConfigRepository;
+    private final ActiveIntegrationConfigs activeIntegrationConfigs;
     private final RestTemplate restTemplate;
+    private final Executor balanceLookupExecutor;
+    private final CircuitBreaker circuitBreaker;
+    private final IntegrationRetrier integrationRetrier;
+    private final SingleFlight<UUID, BalanceResult> inFlightLookups = new SingleFlight<>();
 
-    public VacationBalanceClient(IntegrationConfigRepository integrationConfigRepository,
-                                 RestTemplateBuilder builder) {
-        this.integrationConfigRepository = integrationConfigRepository;
-        this.restTemplate = builder
-                .setConnectTimeout(Duration.ofSeconds(3))
-                .setReadTimeout(Duration.ofSeconds(3))
-                .build();
+    public VacationBalanceClient(ActiveIntegrationConfigs activeIntegrationConfigs,
+                                 OutboundHttpClients outboundHttpClients,
+                                 @Qualifier("balanceLookupExecutor") Executor balanceLookupExecutor,
+                                 CircuitBreakerRegistry circuitBreakerRegistry,
+                                 IntegrationRetrier integrationRetrier) {
+        this.activeIntegrationConfigs = activeIntegrationConfigs;
+        this.restTemplate = outboundHttpClients.restTemplate(CIRCUIT_NAME, Duration.ofSeconds(3), Duration.ofSeconds(3));
+        this.balanceLookupExecutor = balanceLookupExecutor;
+        this.circuitBreaker = circuitBreakerRegistry.forIntegration(CIRCUIT_NAME);
+        this.integrationRetrier = integrationRetrier;
     }
 
     public BalanceResult fetchBalance(UUID userId) {
-        Optional<IntegrationConfig> configOptional = integrationConfigRepository
-                .findFirstByTypeAndState(IntegrationType.VACATION_BALANCE, IntegrationState.CONFIGURED);
+        Optional<IntegrationConfig> configOptional = activeConfig();
         if (configOptional.isEmpty()) {
             return BalanceResult.unavailable("Integration not configured");
         }
+        return lookup(configOptional.get(), userId).join();
+    }
+
+    public Map<UUID, BalanceResult> fetchBalances(Collection<UUID> userIds) {
+        Set<UUID> distinctUserIds = new LinkedHashSet<>(userIds);
+        Map<UUID, BalanceResult> results = new HashMap<>();
+        if (distinctUserIds.isEmpty()) {
+            return results;
+        }
+        Optional<IntegrationConfig> configOptional = activeConfig();
+        if (configOptional.isEmpty()) {
+            BalanceResult unavailable = BalanceResult.unavailable("Integration not configured");
+            distinctUserIds.forEach(userId -> results.put(userId, unavailable));
+            return results;
+        }
         IntegrationConfig config = configOptional.get();
 
+        Map<UUID, CompletableFuture<BalanceResult>> lookups = new LinkedHashMap<>();
+        for (UUID userId : distinctUserIds) {
+            lookups.put(userId, CompletableFuture
+                    .supplyAsync(() -> lookup(config, userId), balanceLookupExecutor)
+                    .thenCompose(Function.identity())
+                    .exceptionally(ex -> {
+                        log.warn("Balance lookup failed for user {}: {}", userId, ex.getMessage());
+                        return BalanceResult.unavailable(UNAVAILABLE_REASON);
+                    }));
+        }
+        lookups.forEach((userId, lookup) -> results.put(userId, lookup.join()));
+        return results;
+    }
+
+    public SingleFlight.Stats lookupStats() {
+        return inFlightLookups.stats();
+    }
+
+    private Optional<IntegrationConfig> activeConfig() {
+        return activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE);
+    }
+
+    private CompletableFuture<BalanceResult> lookup(IntegrationConfig config, UUID userId) {
+        return inFlightLookups.execute(userId, () -> callWithRetry(config, userId));
+    }
+
+    private CompletableFuture<BalanceResult> callWithRetry(IntegrationConfig config, UUID userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.add("X-User-Id", userId.toString());
@@ -54,34 +117,25 @@ public class VacationBalanceClient {
         }
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
-        int[] backoffSeconds = new int[]{0, 1, 2, 4};
-        for (int attempt = 0; attempt < backoffSeconds.length; attempt++) {
-            if (backoffSeconds[attempt] > 0) {
-                sleep(backoffSeconds[attempt]);
-            }
-            try {
-                ResponseEntity<BalanceApiResponse> response = restTemplate
-                        .exchange(config.getEndpointUrl(), HttpMethod.GET, entity, BalanceApiResponse.class);
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null
-                        && response.getBody().balance() != null) {
-                    return BalanceResult.available(response.getBody().balance());
-                }
-                log.warn("Unexpected response from INT-001: status={}, body={}", response.getStatusCode(), response.getBody());
-            } catch (ResourceAccessException ex) {
-                log.warn("Timeout reaching INT-001 on attempt {}", attempt + 1);
-            } catch (Exception ex) {
-                log.warn("Error calling INT-001 on attempt {}: {}", attempt + 1, ex.getMessage());
-            }
-        }
-        return BalanceResult.unavailable("External balance system unavailable");
+        return integrationRetrier.execute(circuitBreaker, BACKOFF, attempt -> callOnce(config, entity, attempt))
+                .thenApply(result -> result.orElseGet(() -> BalanceResult.unavailable(UNAVAILABLE_REASON)));
     }
 
-    private void sleep(int seconds) {
+    private Optional<BalanceResult> callOnce(IntegrationConfig config, HttpEntity<Void> entity, int attempt) {
         try {
-            Thread.sleep(Duration.ofSeconds(seconds).toMillis());
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
+            ResponseEntity<BalanceApiResponse> response = restTemplate
+                    .exchange(config.getEndpointUrl(), HttpMethod.GET, entity, BalanceApiResponse.class);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null
+                    && response.getBody().balance() != null) {
+                return Optional.of(BalanceResult.available(response.getBody().balance()));
+            }
+            log.warn("Unexpected response from INT-001: status={}, body={}", response.getStatusCode(), response.getBody());
+        } catch (ResourceAccessException ex) {
+            log.warn("Timeout reaching INT-001 on attempt {}", attempt);
+        } catch (Exception ex) {
+            log.warn("Error calling INT-001 on attempt {}: {}", attempt, ex.getMessage());
         }
+        return Optional.empty();
     }
 
     RestTemplate restTemplate() {
@@ -0,0 +1,187 @@
+package com.company.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Table(name = "deduction_jobs")
+public class DeductionJob implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "request_id", nullable = false, updatable = false)
+    private UUID requestId;
+
+    @Column(name = "hr_id", nullable = false)
+    private UUID hrId;
+
+    @Column(name = "hr_notes", columnDefinition = "TEXT")
+    private String hrNotes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private DeductionJobStatus status = DeductionJobStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    @Transient
+    private boolean newJob;
+
+    public static DeductionJob forRequest(UUID requestId) {
+        DeductionJob job = new DeductionJob();
+        job.requestId = requestId;
+        job.newJob = true;
+        return job;
+    }
+
+    @PrePersist
+    public void onCreate() {
+        Instant now = Instant.now();
+        createdAt = now;
+        updatedAt = now;
+        if (nextAttemptAt == null) {
+            nextAttemptAt = now;
+        }
+    }
+
+    @PostLoad
+    @PostPersist
+    public void markPersisted() {
+        newJob = false;
+    }
+
+    @PreUpdate
+    public void onUpdate() {
+        updatedAt = Instant.now();
+    }
+
+    @Override
+    public UUID getId() {
+        return requestId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newJob;
+    }
+
+    public UUID getRequestId() {
+        return requestId;
+    }
+
+    public void setRequestId(UUID requestId) {
+        this.requestId = requestId;
+    }
+
+    public UUID getHrId() {
+        return hrId;
+    }
+
+    public void setHrId(UUID hrId) {
+        this.hrId = hrId;
+    }
+
+    public String getHrNotes() {
+        return hrNotes;
+    }
+
+    public void setHrNotes(String hrNotes) {
+        this.hrNotes = hrNotes;
+    }
+
+    public DeductionJobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(DeductionJobStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof DeductionJob that)) return false;
+        return Objects.equals(requestId, that.requestId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(requestId);
+    }
+}
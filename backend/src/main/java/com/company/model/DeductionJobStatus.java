@@ -0,0 +1,8 @@
+package com.company.model;
+
+public enum DeductionJobStatus {
+    PENDING,
+    IN_PROGRESS,
+    SUCCEEDED,
+    FAILED
+}
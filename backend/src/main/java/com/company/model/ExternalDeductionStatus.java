@@ -1,6 +1,7 @@
 package com.company.model;
 
 public enum ExternalDeductionStatus {
+    PENDING,
     SUCCESS,
     FAILED
 }
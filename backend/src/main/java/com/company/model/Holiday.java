@@ -38,6 +38,9 @@ public class Holiday {
     @Column(name = "deprecation_reason")
     private String deprecationReason;
 
+    @Column(name = "region_code", length = 20)
+    private String regionCode;
+
     @PrePersist
     public void onCreate() {
         createdAt = Instant.now();
@@ -87,6 +90,14 @@ public class Holiday {
         this.deprecationReason = deprecationReason;
     }
 
+    public String getRegionCode() {
+        return regionCode;
+    }
+
+    public void setRegionCode(String regionCode) {
+        this.regionCode = regionCode;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
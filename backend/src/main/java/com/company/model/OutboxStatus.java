@@ -0,0 +1,7 @@
+package com.company.model;
+
+public enum OutboxStatus {
+    PENDING,
+    DELIVERED,
+    FAILED
+}
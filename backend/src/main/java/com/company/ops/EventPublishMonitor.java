@@ -1,6 +1,12 @@
 package com.company.ops;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
@@ -9,11 +15,80 @@ import org.springframework.stereotype.Component;
 public class EventPublishMonitor {
     private static final Logger log = LoggerFactory.getLogger(EventPublishMonitor.class);
 
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public void recordPublished(String eventType, long queueWaitNanos) {
+        Counters typeCounters = countersFor(eventType);
+        typeCounters.published.increment();
+        typeCounters.queueWaitNanos.add(queueWaitNanos);
+        typeCounters.maxQueueWaitNanos.accumulate(queueWaitNanos);
+    }
+
+    public void recordRetried(String eventType) {
+        countersFor(eventType).retried.increment();
+    }
+
+    public void recordRejected(String eventType) {
+        countersFor(eventType).rejected.increment();
+        log.warn("Event dispatch queue full, rejected event={}", eventType);
+    }
+
+    public void recordCallerRun(String eventType) {
+        countersFor(eventType).callerRuns.increment();
+        log.warn("Event dispatch queue full, publishing event={} on the caller thread", eventType);
+    }
+
     public void recordEventFailure(String eventType, int attempts) {
+        countersFor(eventType).failed.increment();
         log.error("Event publish permanently failed: event={} attempts={}", eventType, attempts);
     }
 
     public void recordDeductionFailure(UUID requestId, String reason) {
         log.error("External deduction failed after retries: requestId={} reason={}", requestId, reason);
     }
+
+    public List<EventTypeStats> snapshot() {
+        return counters.entrySet().stream()
+                .map(entry -> entry.getValue().toStats(entry.getKey()))
+                .sorted(Comparator.comparing(EventTypeStats::eventType))
+                .toList();
+    }
+
+    private Counters countersFor(String eventType) {
+        return counters.computeIfAbsent(eventType, ignored -> new Counters());
+    }
+
+    public record EventTypeStats(String eventType,
+                                 long published,
+                                 long retried,
+                                 long failed,
+                                 long rejected,
+                                 long callerRuns,
+                                 double avgQueueWaitMillis,
+                                 double maxQueueWaitMillis) {
+    }
+
+    private static final class Counters {
+        private final LongAdder published = new LongAdder();
+        private final LongAdder retried = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder callerRuns = new LongAdder();
+        private final LongAdder queueWaitNanos = new LongAdder();
+        private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+
+        EventTypeStats toStats(String eventType) {
+            long publishedCount = published.sum();
+            return new EventTypeStats(
+                    eventType,
+                    publishedCount,
+                    retried.sum(),
+                    failed.sum(),
+                    rejected.sum(),
+                    callerRuns.sum(),
+                    publishedCount == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / publishedCount,
+                    maxQueueWaitNanos.get() / 1_000_000.0
+            );
+        }
+    }
 }
@@ -0,0 +1,43 @@
+package com.company.repos;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AuditLogBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_logs (id, actor_id, action_type, entity_type, entity_id, details, created_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AuditLogBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertBatch(List<Row> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setObject(1, row.id());
+            statement.setObject(2, row.actorId());
+            statement.setString(3, row.actionType());
+            statement.setString(4, row.entityType());
+            statement.setString(5, row.entityId());
+            statement.setString(6, row.details());
+            statement.setTimestamp(7, Timestamp.from(row.createdAt()));
+        });
+    }
+
+    public record Row(UUID id,
+                      UUID actorId,
+                      String actionType,
+                      String entityType,
+                      String entityId,
+                      String details,
+                      Instant createdAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.company.repos;
+
+import com.company.model.DeductionJob;
+import com.company.model.DeductionJobStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DeductionJobRepository extends JpaRepository<DeductionJob, UUID> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT j FROM DeductionJob j
+            WHERE j.status IN :statuses
+              AND j.nextAttemptAt <= :now
+            ORDER BY j.nextAttemptAt ASC
+            """)
+    List<DeductionJob> lockDue(@Param("statuses") Collection<DeductionJobStatus> statuses,
+                               @Param("now") Instant now,
+                               Pageable pageable);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO deduction_jobs (request_id, hr_id, hr_notes, status, attempts, next_attempt_at, created_at, updated_at)
+            VALUES (:requestId, :hrId, :hrNotes, 'PENDING', 0, :now, :now, :now)
+            ON CONFLICT (request_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("requestId") UUID requestId,
+                       @Param("hrId") UUID hrId,
+                       @Param("hrNotes") String hrNotes,
+                       @Param("now") Instant now);
+
+    long countByStatus(DeductionJobStatus status);
+}
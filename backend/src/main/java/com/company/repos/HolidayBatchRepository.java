@@ -0,0 +1,41 @@
+package com.company.repos;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class HolidayBatchRepository {
+    private static final String UPSERT_SQL = """
+            INSERT INTO holidays (id, holiday_date, name, status, region_code, created_at)
+            VALUES (?, ?, ?, 'IMPORTED', ?, ?)
+            ON CONFLICT (holiday_date, name, (COALESCE(region_code, ''))) DO UPDATE
+            SET status = 'IMPORTED',
+                deprecation_reason = NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public HolidayBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void upsertImported(List<HolidayRow> rows) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setDate(2, Date.valueOf(row.date()));
+            statement.setString(3, row.name());
+            statement.setString(4, row.regionCode());
+            statement.setTimestamp(5, now);
+        });
+    }
+
+    public record HolidayRow(LocalDate date, String name, String regionCode) {
+    }
+}
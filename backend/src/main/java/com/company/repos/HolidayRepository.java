@@ -4,7 +4,6 @@ import com.company.model.Holiday;
 import com.company.model.HolidayStatus;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -26,10 +25,9 @@ public interface HolidayRepository extends JpaRepository<Holiday, UUID> {
 
     @Query("""
             SELECT h FROM Holiday h
-            WHERE h.date = :date
-              AND h.name = :name
+            WHERE h.date BETWEEN :startDate AND :endDate
             """)
-    Optional<Holiday> findByDateAndName(@Param("date") LocalDate date, @Param("name") String name);
+    List<Holiday> findAllInRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
     @Query("""
             SELECT h FROM Holiday h
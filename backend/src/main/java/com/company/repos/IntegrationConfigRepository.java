@@ -2,13 +2,12 @@ package com.company.repos;
 
 import com.company.model.IntegrationConfig;
 import com.company.model.IntegrationState;
-import com.company.model.IntegrationType;
-import java.util.Optional;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface IntegrationConfigRepository extends JpaRepository<IntegrationConfig, UUID> {
-    Optional<IntegrationConfig> findFirstByTypeAndState(IntegrationType type, IntegrationState state);
+    List<IntegrationConfig> findByState(IntegrationState state);
 }
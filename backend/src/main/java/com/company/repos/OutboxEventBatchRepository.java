@@ -0,0 +1,31 @@
+package com.company.repos;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OutboxEventBatchRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO event_outbox (event_type, payload, status, attempts, next_attempt_at, created_at)
+            VALUES (?, ?, 'PENDING', 0, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxEventBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertPending(String eventType, List<String> payloads) {
+        Timestamp now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, payloads, payloads.size(), (statement, payload) -> {
+            statement.setString(1, eventType);
+            statement.setString(2, payload);
+            statement.setTimestamp(3, now);
+            statement.setTimestamp(4, now);
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.repos;
+
+import com.company.model.OutboxEvent;
+import com.company.model.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT e FROM OutboxEvent e
+            WHERE e.status = :status
+            ORDER BY e.id ASC
+            """)
+    List<OutboxEvent> lockNextBatch(@Param("status") OutboxStatus status, Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    Optional<OutboxEvent> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+
+    @Modifying
+    @Query("""
+            DELETE FROM OutboxEvent e
+            WHERE e.status = :status
+              AND e.deliveredAt < :cutoff
+            """)
+    int deleteDeliveredBefore(@Param("status") OutboxStatus status, @Param("cutoff") Instant cutoff);
+}
@@ -6,6 +6,7 @@ import com.company.model.TeamStatus;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,26 +16,55 @@ import org.springframework.stereotype.Repository;
 public interface TeamMembershipRepository extends JpaRepository<TeamMembership, UUID> {
 
     @Query("""
-            SELECT tm.team.id FROM TeamMembership tm
-            WHERE tm.user.id = :userId
+            SELECT tm.user.id AS userId, tm.team.id AS teamId FROM TeamMembership tm
+            WHERE tm.user.id IN :userIds
               AND tm.status = :status
               AND tm.team.status = :teamStatus
             """)
-    List<UUID> findActiveTeamIdsForUser(@Param("userId") UUID userId,
-                                        @Param("status") TeamMembershipStatus status,
-                                        @Param("teamStatus") TeamStatus teamStatus);
+    List<MembershipPair> findActivePairsForUsers(@Param("userIds") Collection<UUID> userIds,
+                                                 @Param("status") TeamMembershipStatus status,
+                                                 @Param("teamStatus") TeamStatus teamStatus);
 
     @Query("""
-            SELECT tm.user.id FROM TeamMembership tm
+            SELECT tm.user.id AS userId, tm.team.id AS teamId FROM TeamMembership tm
             WHERE tm.team.id IN :teamIds
               AND tm.status = :status
               AND tm.team.status = :teamStatus
             """)
-    List<UUID> findActiveUserIdsForTeams(@Param("teamIds") Collection<UUID> teamIds,
-                                         @Param("status") TeamMembershipStatus status,
-                                         @Param("teamStatus") TeamStatus teamStatus);
+    List<MembershipPair> findActivePairsForTeams(@Param("teamIds") Collection<UUID> teamIds,
+                                                 @Param("status") TeamMembershipStatus status,
+                                                 @Param("teamStatus") TeamStatus teamStatus);
 
+    @Query("""
+            SELECT tm.user.id AS userId, tm.team.id AS teamId FROM TeamMembership tm
+            WHERE tm.status = :status
+              AND tm.team.status = :teamStatus
+            """)
+    List<MembershipPair> findAllActivePairs(@Param("status") TeamMembershipStatus status,
+                                            @Param("teamStatus") TeamStatus teamStatus);
+
+    @Query("""
+            SELECT tm.user.id AS userId, tm.team.id AS teamId FROM TeamMembership tm
+            WHERE tm.team.id IN :teamIds
+              AND tm.status = :status
+            """)
+    List<MembershipPair> findPairsForTeams(@Param("teamIds") Collection<UUID> teamIds,
+                                           @Param("status") TeamMembershipStatus status);
+
+    @Query("""
+            SELECT tm.user.id AS userId, tm.team.id AS teamId FROM TeamMembership tm
+            WHERE tm.status = :status
+            """)
+    List<MembershipPair> findAllPairs(@Param("status") TeamMembershipStatus status);
+
+    @EntityGraph(attributePaths = "team")
     List<TeamMembership> findByUserId(UUID userId);
 
     List<TeamMembership> findByTeamId(UUID teamId);
+
+    interface MembershipPair {
+        UUID getUserId();
+
+        UUID getTeamId();
+    }
 }
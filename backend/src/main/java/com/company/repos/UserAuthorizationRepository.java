@@ -0,0 +1,37 @@
+package com.company.repos;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class UserAuthorizationRepository {
+    private static final String MARK_SQL = "UPDATE users SET authz_changed_at = ? WHERE id = ?";
+    private static final String CHANGES_SQL = """
+            SELECT id, authz_changed_at FROM users
+            WHERE authz_changed_at > ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserAuthorizationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void markChanged(UUID userId, Instant changedAt) {
+        jdbcTemplate.update(MARK_SQL, Timestamp.from(changedAt), userId);
+    }
+
+    public List<AuthorizationChange> findChangesSince(Instant since) {
+        return jdbcTemplate.query(CHANGES_SQL, (rs, rowNum) -> new AuthorizationChange(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("authz_changed_at").toInstant()
+        ), Timestamp.from(since));
+    }
+
+    public record AuthorizationChange(UUID userId, Instant changedAt) {
+    }
+}
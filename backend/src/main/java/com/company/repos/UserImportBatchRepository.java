@@ -0,0 +1,74 @@
+package com.company.repos;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class UserImportBatchRepository {
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (id, username, password_hash, display_name, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String INSERT_USER_ROLE_SQL = """
+            INSERT INTO user_roles (user_id, role_id)
+            VALUES (?, ?)
+            """;
+    private static final String INSERT_MEMBERSHIP_SQL = """
+            INSERT INTO team_memberships (id, team_id, user_id, status, created_at)
+            VALUES (?, ?, ?, 'ACTIVE', ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserImportBatchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void insertUsers(List<UserRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, rows.size(), (statement, row) -> {
+            Timestamp now = Timestamp.from(row.createdAt());
+            statement.setObject(1, row.id());
+            statement.setString(2, row.username());
+            statement.setString(3, row.passwordHash());
+            statement.setString(4, row.displayName());
+            statement.setString(5, row.status());
+            statement.setTimestamp(6, now);
+            statement.setTimestamp(7, now);
+        });
+    }
+
+    public void insertUserRoles(List<UserRoleRow> rows) {
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setObject(1, row.userId());
+            statement.setObject(2, row.roleId());
+        });
+    }
+
+    public void insertMemberships(List<MembershipRow> rows, Instant createdAt) {
+        Timestamp now = Timestamp.from(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_MEMBERSHIP_SQL, rows, rows.size(), (statement, row) -> {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setObject(2, row.teamId());
+            statement.setObject(3, row.userId());
+            statement.setTimestamp(4, now);
+        });
+    }
+
+    public record UserRow(UUID id,
+                          String username,
+                          String passwordHash,
+                          String displayName,
+                          String status,
+                          Instant createdAt) {
+    }
+
+    public record UserRoleRow(UUID userId, UUID roleId) {
+    }
+
+    public record MembershipRow(UUID userId, UUID teamId) {
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.repos;
+
+import com.company.model.UserStatus;
+import java.sql.Array;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class UserLoginRepository {
+    private static final String CREDENTIALS_SQL = """
+            SELECT u.id, u.password_hash, u.status, u.region_code,
+                   array_agg(r.code) FILTER (WHERE r.code IS NOT NULL) AS role_codes
+            FROM users u
+            LEFT JOIN user_roles ur ON ur.user_id = u.id
+            LEFT JOIN roles r ON r.id = ur.role_id
+            WHERE LOWER(u.username) = LOWER(?)
+            GROUP BY u.id
+            """;
+    private static final String LAST_LOGIN_SQL = """
+            UPDATE users SET last_login_at = ?
+            WHERE id = ? AND (last_login_at IS NULL OR last_login_at < ?)
+            """;
+
+    private static final String REHASH_SQL = """
+            UPDATE users SET password_hash = ?, updated_at = now()
+            WHERE id = ? AND password_hash = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserLoginRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<LoginCredentials> findCredentials(String username) {
+        List<LoginCredentials> rows = jdbcTemplate.query(CREDENTIALS_SQL, (rs, rowNum) -> new LoginCredentials(
+                rs.getObject("id", UUID.class),
+                rs.getString("password_hash"),
+                UserStatus.valueOf(rs.getString("status")),
+                rs.getString("region_code"),
+                roleCodes(rs.getArray("role_codes"))
+        ), username);
+        return rows.stream().findFirst();
+    }
+
+    public int[] updateLastLoginTimes(Map<UUID, Instant> lastLogins) {
+        List<Object[]> args = new ArrayList<>(lastLogins.size());
+        lastLogins.forEach((userId, loginAt) -> {
+            Timestamp timestamp = Timestamp.from(loginAt);
+            args.add(new Object[]{timestamp, userId, timestamp});
+        });
+        return jdbcTemplate.batchUpdate(LAST_LOGIN_SQL, args);
+    }
+
+    public boolean updatePasswordHash(UUID userId, String expectedHash, String newHash) {
+        return jdbcTemplate.update(REHASH_SQL, newHash, userId, expectedHash) == 1;
+    }
+
+    private static List<String> roleCodes(Array array) throws SQLException {
+        if (array == null) {
+            return List.of();
+        }
+        try {
+            List<String> codes = new ArrayList<>();
+            for (Object code : (Object[]) array.getArray()) {
+                codes.add(String.valueOf(code));
+            }
+            return codes;
+        } finally {
+            array.free();
+        }
+    }
+
+    public record LoginCredentials(UUID userId,
+                                   String passwordHash,
+                                   UserStatus status,
+                                   String regionCode,
+                                   List<String> roleCodes) {
+    }
+}
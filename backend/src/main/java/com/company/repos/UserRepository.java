@@ -1,14 +1,25 @@
 package com.company.repos;
 
 import com.company.model.User;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, UUID> {
+public interface UserRepository extends JpaRepository<User, UUID>, JpaSpecificationExecutor<User> {
     Optional<User> findByUsernameIgnoreCase(String username);
 
     boolean existsByUsernameIgnoreCase(String username);
+
+    @Query("""
+            SELECT LOWER(u.username) FROM User u
+            WHERE LOWER(u.username) IN :usernames
+            """)
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> lowercaseUsernames);
 }
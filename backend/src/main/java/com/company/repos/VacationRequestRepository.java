@@ -48,6 +48,17 @@ public interface VacationRequestRepository extends JpaRepository<VacationRequest
             """)
     long sumDaysForStatus(@Param("userId") UUID userId, @Param("status") VacationRequestStatus status);
 
+    @Query("""
+            SELECT u.id AS userId, COALESCE(SUM(vr.numberOfDays), 0) AS totalDays
+            FROM VacationRequest vr
+            JOIN vr.user u
+            WHERE u.id IN :userIds
+              AND vr.status = :status
+            GROUP BY u.id
+            """)
+    List<UserDaysTotal> sumDaysForStatusByUsers(@Param("userIds") Collection<UUID> userIds,
+                                                @Param("status") VacationRequestStatus status);
+
     @Query("""
             SELECT vr FROM VacationRequest vr
             JOIN FETCH vr.user u
@@ -61,6 +72,8 @@ public interface VacationRequestRepository extends JpaRepository<VacationRequest
             JOIN FETCH vr.user u
             WHERE vr.status = :status
               AND vr.processedAt IS NULL
+              AND (vr.externalDeductionStatus IS NULL
+                   OR vr.externalDeductionStatus <> com.company.model.ExternalDeductionStatus.PENDING)
             ORDER BY vr.startDate ASC
             """)
     List<VacationRequest> findUnprocessedApproved(@Param("status") VacationRequestStatus status);
@@ -81,4 +94,20 @@ public interface VacationRequestRepository extends JpaRepository<VacationRequest
             """)
     Optional<VacationRequest> findApprovedUnprocessedById(@Param("id") UUID id,
                                                           @Param("status") VacationRequestStatus status);
+
+    @Query("""
+            SELECT vr FROM VacationRequest vr
+            JOIN FETCH vr.user u
+            WHERE vr.id IN :ids
+              AND vr.status = :status
+              AND vr.processedAt IS NULL
+            """)
+    List<VacationRequest> findApprovedUnprocessedByIds(@Param("ids") Collection<UUID> ids,
+                                                       @Param("status") VacationRequestStatus status);
+
+    interface UserDaysTotal {
+        UUID getUserId();
+
+        long getTotalDays();
+    }
 }
@@ -0,0 +1,28 @@
+package com.company.security;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuthorizationEpochs {
+    private final Map<UUID, Long> changedAtByUser = new ConcurrentHashMap<>();
+
+    public void markChanged(UUID userId, long changedAtMillis) {
+        changedAtByUser.merge(userId, changedAtMillis, Math::max);
+    }
+
+    public boolean isStale(UUID userId, long authorizedAtMillis) {
+        Long changedAt = changedAtByUser.get(userId);
+        return changedAt != null && changedAt >= authorizedAtMillis;
+    }
+
+    public void pruneOlderThan(long cutoffMillis) {
+        changedAtByUser.values().removeIf(changedAt -> changedAt < cutoffMillis);
+    }
+
+    public int size() {
+        return changedAtByUser.size();
+    }
+}
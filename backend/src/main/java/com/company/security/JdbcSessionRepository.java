@@ -0,0 +1,177 @@
+package com.company.security;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.MapSession;
+import org.springframework.session.SessionRepository;
+
+public class JdbcSessionRepository implements SessionRepository<MapSession> {
+    private static final Logger log = LoggerFactory.getLogger(JdbcSessionRepository.class);
+    private static final String SELECT_SQL = """
+            SELECT creation_time, last_access_time, max_inactive_seconds, attributes
+            FROM http_sessions
+            WHERE id = ?
+            """;
+    private static final String UPSERT_SQL = """
+            INSERT INTO http_sessions (id, creation_time, last_access_time, max_inactive_seconds, expiry_time, attributes)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE
+            SET last_access_time = EXCLUDED.last_access_time,
+                max_inactive_seconds = EXCLUDED.max_inactive_seconds,
+                expiry_time = EXCLUDED.expiry_time,
+                attributes = EXCLUDED.attributes
+            """;
+    private static final String DELETE_SQL = "DELETE FROM http_sessions WHERE id = ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM http_sessions WHERE expiry_time < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SessionAttributeCodec codec;
+    private final Duration maxInactiveInterval;
+    private final Duration nearCacheTtl;
+    private final Duration touchInterval;
+    private final Clock clock;
+    private final Map<String, CachedSession> nearCache = new ConcurrentHashMap<>();
+    private final AtomicLong nearCacheHits = new AtomicLong();
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong writes = new AtomicLong();
+    private final AtomicLong skippedWrites = new AtomicLong();
+
+    public JdbcSessionRepository(JdbcTemplate jdbcTemplate,
+                                 SessionAttributeCodec codec,
+                                 Duration maxInactiveInterval,
+                                 Duration nearCacheTtl,
+                                 Duration touchInterval,
+                                 Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.codec = codec;
+        this.maxInactiveInterval = maxInactiveInterval;
+        this.nearCacheTtl = nearCacheTtl;
+        this.touchInterval = touchInterval;
+        this.clock = clock;
+    }
+
+    @Override
+    public MapSession createSession() {
+        MapSession session = new MapSession();
+        session.setCreationTime(clock.instant());
+        session.setLastAccessedTime(session.getCreationTime());
+        session.setMaxInactiveInterval(maxInactiveInterval);
+        return session;
+    }
+
+    @Override
+    public void save(MapSession session) {
+        if (!session.getId().equals(session.getOriginalId())) {
+            deleteById(session.getOriginalId());
+        }
+        Map<String, Object> attributes = new HashMap<>();
+        session.getAttributeNames().forEach(name -> attributes.put(name, session.getAttribute(name)));
+        byte[] encoded = codec.encode(attributes);
+        CachedSession cached = nearCache.get(session.getId());
+        if (cached != null
+                && Arrays.equals(cached.attributes(), encoded)
+                && cached.session().getMaxInactiveInterval().equals(session.getMaxInactiveInterval())
+                && Duration.between(cached.persistedAccess(), session.getLastAccessedTime()).compareTo(touchInterval) < 0) {
+            skippedWrites.incrementAndGet();
+            nearCache.put(session.getId(), new CachedSession(new MapSession(session), encoded,
+                    cached.persistedAccess(), cached.loadedAt()));
+            return;
+        }
+        Instant expiry = session.getLastAccessedTime().plus(session.getMaxInactiveInterval());
+        jdbcTemplate.update(UPSERT_SQL,
+                session.getId(),
+                Timestamp.from(session.getCreationTime()),
+                Timestamp.from(session.getLastAccessedTime()),
+                (int) session.getMaxInactiveInterval().toSeconds(),
+                Timestamp.from(expiry),
+                encoded);
+        writes.incrementAndGet();
+        nearCache.put(session.getId(), new CachedSession(new MapSession(session), encoded,
+                session.getLastAccessedTime(), clock.instant()));
+    }
+
+    @Override
+    public MapSession findById(String id) {
+        Instant now = clock.instant();
+        CachedSession cached = nearCache.get(id);
+        if (cached != null && Duration.between(cached.loadedAt(), now).compareTo(nearCacheTtl) < 0) {
+            if (isExpired(cached.session(), now)) {
+                deleteById(id);
+                return null;
+            }
+            nearCacheHits.incrementAndGet();
+            return new MapSession(cached.session());
+        }
+        reads.incrementAndGet();
+        List<CachedSession> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> {
+            byte[] encoded = rs.getBytes("attributes");
+            MapSession session = new MapSession(id);
+            session.setCreationTime(rs.getTimestamp("creation_time").toInstant());
+            session.setLastAccessedTime(rs.getTimestamp("last_access_time").toInstant());
+            session.setMaxInactiveInterval(Duration.ofSeconds(rs.getInt("max_inactive_seconds")));
+            codec.decode(encoded).forEach(session::setAttribute);
+            return new CachedSession(session, encoded, session.getLastAccessedTime(), now);
+        }, id);
+        if (rows.isEmpty()) {
+            nearCache.remove(id);
+            return null;
+        }
+        CachedSession loaded = rows.get(0);
+        if (isExpired(loaded.session(), now)) {
+            deleteById(id);
+            return null;
+        }
+        nearCache.put(id, loaded);
+        return new MapSession(loaded.session());
+    }
+
+    @Override
+    public void deleteById(String id) {
+        nearCache.remove(id);
+        jdbcTemplate.update(DELETE_SQL, id);
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.session.cleanup-ms:60000}",
+            fixedDelayString = "${app.session.cleanup-ms:60000}"
+    )
+    public void deleteExpired() {
+        Instant now = clock.instant();
+        nearCache.entrySet().removeIf(entry -> Duration.between(entry.getValue().loadedAt(), now).compareTo(nearCacheTtl) >= 0
+                || isExpired(entry.getValue().session(), now));
+        try {
+            int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(now));
+            if (deleted > 0) {
+                log.debug("Removed {} expired sessions", deleted);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Expired session cleanup failed: {}", ex.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(nearCache.size(), nearCacheHits.get(), reads.get(), writes.get(), skippedWrites.get());
+    }
+
+    private boolean isExpired(MapSession session, Instant now) {
+        return session.getLastAccessedTime().plus(session.getMaxInactiveInterval()).isBefore(now);
+    }
+
+    public record Stats(int nearCacheSize, long nearCacheHits, long reads, long writes, long skippedWrites) {
+    }
+
+    private record CachedSession(MapSession session, byte[] attributes, Instant persistedAccess, Instant loadedAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.company.security;
 
+import com.company.service.SessionRefreshService;
 import com.company.service.SessionService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,9 +8,9 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import java.io.IOException;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -17,15 +18,21 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class RbacFilter extends OncePerRequestFilter {
     private static final Set<String> PUBLIC_PATHS = Set.of("/api/login", "/api/logout", "/health");
+    private static final RouteAuthorizationTable ROUTES = new RouteAuthorizationTable(Map.of(
+            "/api/admin", RoleMask.AUTHENTICATED | RoleMask.ADMIN,
+            "/api/hr", RoleMask.AUTHENTICATED | RoleMask.HR,
+            "/api/manager", RoleMask.AUTHENTICATED | RoleMask.MANAGER
+    ));
     private final SessionService sessionService;
-    private final Map<String, String> requiredRoleByPrefix = Map.of(
-            "/api/admin", "ADMIN",
-            "/api/hr", "HR",
-            "/api/manager", "MANAGER"
-    );
+    private final AuthorizationEpochs authorizationEpochs;
+    private final SessionRefreshService sessionRefreshService;
 
-    public RbacFilter(SessionService sessionService) {
+    public RbacFilter(SessionService sessionService,
+                      AuthorizationEpochs authorizationEpochs,
+                      SessionRefreshService sessionRefreshService) {
         this.sessionService = sessionService;
+        this.authorizationEpochs = authorizationEpochs;
+        this.sessionRefreshService = sessionRefreshService;
     }
 
     @Override
@@ -50,14 +57,20 @@ public class RbacFilter extends OncePerRequestFilter {
             writeError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
             return;
         }
-        List<String> roles = sessionService.getRoles(session);
-        if (roles.isEmpty()) {
+        UUID userId = sessionService.getUserId(session);
+        if (userId != null
+                && authorizationEpochs.isStale(userId, sessionService.getAuthorizedAt(session))
+                && !sessionRefreshService.refresh(session, userId)) {
+            session.invalidate();
             writeError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
             return;
         }
-
-        String requiredRole = requiredRoleFor(path);
-        if (requiredRole != null && roles.stream().noneMatch(r -> r.equalsIgnoreCase(requiredRole))) {
+        int roleMask = sessionService.getRoleMask(session);
+        if (roleMask == RoleMask.NONE) {
+            writeError(response, HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+            return;
+        }
+        if (!RoleMask.has(roleMask, ROUTES.requiredMaskFor(path))) {
             writeError(response, HttpServletResponse.SC_FORBIDDEN, "Forbidden");
             return;
         }
@@ -65,14 +78,6 @@ public class RbacFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String requiredRoleFor(String path) {
-        return requiredRoleByPrefix.entrySet().stream()
-                .filter(entry -> path.startsWith(entry.getKey()))
-                .map(Map.Entry::getValue)
-                .findFirst()
-                .orElse(null);
-    }
-
     private void writeError(HttpServletResponse response, int status, String message) throws IOException {
         response.setStatus(status);
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
@@ -0,0 +1,43 @@
+package com.company.security;
+
+import java.util.Collection;
+
+public final class RoleMask {
+    public static final int NONE = 0;
+    public static final int AUTHENTICATED = 1;
+    public static final int ADMIN = 1 << 1;
+    public static final int HR = 1 << 2;
+    public static final int MANAGER = 1 << 3;
+    public static final int EMPLOYEE = 1 << 4;
+
+    private RoleMask() {
+    }
+
+    public static int of(Collection<String> roleCodes) {
+        if (roleCodes == null || roleCodes.isEmpty()) {
+            return NONE;
+        }
+        int mask = AUTHENTICATED;
+        for (String code : roleCodes) {
+            mask |= bitFor(code);
+        }
+        return mask;
+    }
+
+    public static int bitFor(String roleCode) {
+        if (roleCode == null) {
+            return NONE;
+        }
+        return switch (roleCode.toUpperCase()) {
+            case "ADMIN" -> ADMIN;
+            case "HR" -> HR;
+            case "MANAGER" -> MANAGER;
+            case "EMPLOYEE" -> EMPLOYEE;
+            default -> NONE;
+        };
+    }
+
+    public static boolean has(int mask, int required) {
+        return (mask & required) == required;
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.security;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+final class RouteAuthorizationTable {
+    private final String[] prefixes;
+    private final int[] requiredMasks;
+
+    RouteAuthorizationTable(Map<String, Integer> requiredMaskByPrefix) {
+        List<Map.Entry<String, Integer>> entries = new ArrayList<>(requiredMaskByPrefix.entrySet());
+        entries.sort(Comparator.<Map.Entry<String, Integer>>comparingInt(entry -> entry.getKey().length())
+                .reversed()
+                .thenComparing(Map.Entry::getKey));
+        this.prefixes = new String[entries.size()];
+        this.requiredMasks = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            prefixes[i] = entries.get(i).getKey();
+            requiredMasks[i] = entries.get(i).getValue();
+        }
+    }
+
+    int requiredMaskFor(String path) {
+        for (int i = 0; i < prefixes.length; i++) {
+            if (path.startsWith(prefixes[i])) {
+                return requiredMasks[i];
+            }
+        }
+        return RoleMask.AUTHENTICATED;
+    }
+}
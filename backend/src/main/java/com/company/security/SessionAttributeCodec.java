@@ -0,0 +1,151 @@
+package com.company.security;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public final class SessionAttributeCodec {
+    private static final Logger log = LoggerFactory.getLogger(SessionAttributeCodec.class);
+    private static final byte VERSION = 1;
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_UUID = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_STRING_LIST = 4;
+    // Balance snapshots are no longer stored in the session; sessions written before that still carry one.
+    private static final byte TAG_BALANCE_SNAPSHOT = 5;
+    private static final byte TAG_LONG = 6;
+    // Written by earlier versions as plain Java serialization; the payload is skipped, never deserialized.
+    private static final byte TAG_SERIALIZED = 9;
+    private static final Object SKIPPED = new Object();
+
+    public byte[] encode(Map<String, Object> attributes) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            List<Map.Entry<String, Object>> encodable = new ArrayList<>(attributes.size());
+            for (Map.Entry<String, Object> entry : attributes.entrySet()) {
+                if (isEncodable(entry.getValue())) {
+                    encodable.add(entry);
+                } else {
+                    log.warn("Dropping unsupported session attribute {} ({})",
+                            entry.getKey(), entry.getValue().getClass().getName());
+                }
+            }
+            out.writeShort(encodable.size());
+            for (Map.Entry<String, Object> entry : encodable) {
+                out.writeUTF(entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    public Map<String, Object> decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported session format " + version);
+            }
+            int count = in.readUnsignedShort();
+            Map<String, Object> attributes = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String name = in.readUTF();
+                Object value = readValue(in);
+                if (value != SKIPPED) {
+                    attributes.put(name, value);
+                }
+            }
+            return attributes;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private boolean isEncodable(Object value) {
+        return value == null
+                || value instanceof UUID
+                || value instanceof String
+                || value instanceof Integer
+                || value instanceof Long
+                || (value instanceof List<?> list && list.stream().allMatch(String.class::isInstance));
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof UUID uuid) {
+            out.writeByte(TAG_UUID);
+            writeUuid(out, uuid);
+        } else if (value instanceof String text) {
+            out.writeByte(TAG_STRING);
+            out.writeUTF(text);
+        } else if (value instanceof Integer number) {
+            out.writeByte(TAG_INT);
+            out.writeInt(number);
+        } else if (value instanceof Long number) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(number);
+        } else {
+            List<?> list = (List<?>) value;
+            out.writeByte(TAG_STRING_LIST);
+            out.writeShort(list.size());
+            for (Object item : list) {
+                out.writeUTF((String) item);
+            }
+        }
+    }
+
+    private Object readValue(DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_UUID -> readUuid(in);
+            case TAG_STRING -> in.readUTF();
+            case TAG_INT -> in.readInt();
+            case TAG_LONG -> in.readLong();
+            case TAG_BALANCE_SNAPSHOT -> {
+                readUuid(in);
+                in.readBoolean();
+                if (in.readBoolean()) {
+                    in.readUTF();
+                }
+                yield SKIPPED;
+            }
+            case TAG_STRING_LIST -> {
+                int size = in.readUnsignedShort();
+                String[] items = new String[size];
+                for (int i = 0; i < size; i++) {
+                    items[i] = in.readUTF();
+                }
+                yield List.of(items);
+            }
+            case TAG_SERIALIZED -> {
+                in.skipNBytes(in.readInt());
+                yield SKIPPED;
+            }
+            default -> throw new IOException("Unknown session attribute tag " + tag);
+        };
+    }
+
+    private void writeUuid(DataOutputStream out, UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+}
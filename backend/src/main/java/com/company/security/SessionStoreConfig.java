@@ -0,0 +1,25 @@
+package com.company.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+
+@Configuration
+@EnableSpringHttpSession
+@ConditionalOnProperty(name = "app.session.store", havingValue = "jdbc")
+public class SessionStoreConfig {
+
+    @Bean
+    public JdbcSessionRepository sessionRepository(JdbcTemplate jdbcTemplate,
+                                                   @Value("${server.servlet.session.timeout:30m}") Duration timeout,
+                                                   @Value("${app.session.near-cache-ttl:PT10S}") Duration nearCacheTtl,
+                                                   @Value("${app.session.touch-interval:PT1M}") Duration touchInterval) {
+        return new JdbcSessionRepository(jdbcTemplate, new SessionAttributeCodec(), timeout, nearCacheTtl,
+                touchInterval, Clock.systemUTC());
+    }
+}
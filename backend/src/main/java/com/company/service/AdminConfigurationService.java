@@ -1,5 +1,7 @@
 package com.company.service;
 
+import com.company.dto.AdminDtos.AdminListQuery;
+import com.company.dto.AdminDtos.AdminPage;
 import com.company.dto.AdminDtos.AdminTeamRequest;
 import com.company.dto.AdminDtos.AdminTeamView;
 import com.company.dto.AdminDtos.AdminUserRequest;
@@ -14,18 +16,26 @@ import com.company.model.User;
 import com.company.model.UserStatus;
 import com.company.repos.RoleRepository;
 import com.company.repos.TeamMembershipRepository;
+import com.company.repos.TeamMembershipRepository.MembershipPair;
 import com.company.repos.TeamRepository;
 import com.company.repos.UserRepository;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -33,12 +43,16 @@ import org.springframework.util.StringUtils;
 @Service
 public class AdminConfigurationService {
     private static final Logger log = LoggerFactory.getLogger(AdminConfigurationService.class);
+    private static final int DEFAULT_PAGE_SIZE = 25;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> USER_SORT_FIELDS = Set.of("username", "displayName", "status", "createdAt");
+    private static final Set<String> TEAM_SORT_FIELDS = Set.of("name", "status", "createdAt");
 
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final TeamRepository teamRepository;
     private final TeamMembershipRepository teamMembershipRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final RoleService roleService;
     private final EventPublisher eventPublisher;
     private final AuditService auditService;
@@ -48,7 +62,7 @@ public class AdminConfigurationService {
                                      RoleRepository roleRepository,
                                      TeamRepository teamRepository,
                                      TeamMembershipRepository teamMembershipRepository,
-                                     PasswordEncoder passwordEncoder,
+                                     PasswordHashingService passwordHashingService,
                                      RoleService roleService,
                                      EventPublisher eventPublisher,
                                      AuditService auditService,
@@ -57,7 +71,7 @@ public class AdminConfigurationService {
         this.roleRepository = roleRepository;
         this.teamRepository = teamRepository;
         this.teamMembershipRepository = teamMembershipRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.roleService = roleService;
         this.eventPublisher = eventPublisher;
         this.auditService = auditService;
@@ -67,19 +81,79 @@ public class AdminConfigurationService {
     @Transactional(readOnly = true)
     public List<AdminUserView> listUsers() {
         List<User> users = userRepository.findAll();
+        Map<UUID, List<UUID>> teamIdsByUser = groupBy(
+                teamMembershipRepository.findAllActivePairs(TeamMembershipStatus.ACTIVE, TeamStatus.ACTIVE),
+                MembershipPair::getUserId, MembershipPair::getTeamId);
         return users.stream()
-                .map(this::toUserView)
+                .map(user -> toUserView(user, teamIdsByUser.getOrDefault(user.getId(), List.of())))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public AdminPage<AdminUserView> listUsers(AdminListQuery query) {
+        PageRequest pageRequest = pageRequest(query, USER_SORT_FIELDS, "username");
+        Specification<User> spec = Specification.where(null);
+        if (StringUtils.hasText(query.search())) {
+            String pattern = "%" + query.search().trim().toLowerCase() + "%";
+            spec = spec.and((root, cq, cb) -> cb.or(
+                    cb.like(cb.lower(root.get("username")), pattern),
+                    cb.like(cb.lower(root.get("displayName")), pattern)));
+        }
+        if (StringUtils.hasText(query.status())) {
+            UserStatus status = parseUserStatus(query.status(), null);
+            if (status == null) {
+                throw new IllegalArgumentException("invalid_status");
+            }
+            spec = spec.and((root, cq, cb) -> cb.equal(root.get("status"), status));
+        }
+        Page<User> page = userRepository.findAll(spec, pageRequest);
+        List<UUID> userIds = page.getContent().stream().map(User::getId).toList();
+        Map<UUID, List<UUID>> teamIdsByUser = userIds.isEmpty() ? Map.of() : groupBy(
+                teamMembershipRepository.findActivePairsForUsers(userIds, TeamMembershipStatus.ACTIVE, TeamStatus.ACTIVE),
+                MembershipPair::getUserId, MembershipPair::getTeamId);
+        List<AdminUserView> items = page.getContent().stream()
+                .map(user -> toUserView(user, teamIdsByUser.getOrDefault(user.getId(), List.of())))
+                .toList();
+        return new AdminPage<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+
     @Transactional(readOnly = true)
     public List<AdminTeamView> listTeams() {
         List<Team> teams = teamRepository.findAll();
+        Map<UUID, List<UUID>> memberIdsByTeam = groupBy(
+                teamMembershipRepository.findAllPairs(TeamMembershipStatus.ACTIVE),
+                MembershipPair::getTeamId, MembershipPair::getUserId);
         return teams.stream()
-                .map(this::toTeamView)
+                .map(team -> toTeamView(team, memberIdsByTeam.getOrDefault(team.getId(), List.of())))
                 .toList();
     }
 
+    @Transactional(readOnly = true)
+    public AdminPage<AdminTeamView> listTeams(AdminListQuery query) {
+        PageRequest pageRequest = pageRequest(query, TEAM_SORT_FIELDS, "name");
+        Specification<Team> spec = Specification.where(null);
+        if (StringUtils.hasText(query.search())) {
+            String pattern = "%" + query.search().trim().toLowerCase() + "%";
+            spec = spec.and((root, cq, cb) -> cb.like(cb.lower(root.get("name")), pattern));
+        }
+        if (StringUtils.hasText(query.status())) {
+            TeamStatus status = parseTeamStatus(query.status(), null);
+            if (status == null) {
+                throw new IllegalArgumentException("invalid_status");
+            }
+            spec = spec.and((root, cq, cb) -> cb.equal(root.get("status"), status));
+        }
+        Page<Team> page = teamRepository.findAll(spec, pageRequest);
+        List<UUID> teamIds = page.getContent().stream().map(Team::getId).toList();
+        Map<UUID, List<UUID>> memberIdsByTeam = teamIds.isEmpty() ? Map.of() : groupBy(
+                teamMembershipRepository.findPairsForTeams(teamIds, TeamMembershipStatus.ACTIVE),
+                MembershipPair::getTeamId, MembershipPair::getUserId);
+        List<AdminTeamView> items = page.getContent().stream()
+                .map(team -> toTeamView(team, memberIdsByTeam.getOrDefault(team.getId(), List.of())))
+                .toList();
+        return new AdminPage<>(items, page.getNumber(), page.getSize(), page.getTotalElements(), page.getTotalPages());
+    }
+
     @Transactional
     public AdminUserView createUser(UUID actorId, AdminUserRequest request) {
         validateUserRequest(request, true);
@@ -89,7 +163,7 @@ public class AdminConfigurationService {
         User user = new User();
         user.setUsername(request.username().trim());
         user.setDisplayName(request.displayName().trim());
-        user.setPasswordHash(passwordEncoder.encode(request.password()));
+        user.setPasswordHash(passwordHashingService.encode(request.password()));
         user.setStatus(parseUserStatus(request.status(), UserStatus.ACTIVE));
         user.setRoles(resolveRoles(request.roles()));
 
@@ -133,7 +207,7 @@ public class AdminConfigurationService {
             user.setDisplayName(request.displayName().trim());
         }
         if (StringUtils.hasText(request.password())) {
-            user.setPasswordHash(passwordEncoder.encode(request.password()));
+            user.setPasswordHash(passwordHashingService.encode(request.password()));
         }
 
         UserStatus previousStatus = user.getStatus();
@@ -186,7 +260,10 @@ public class AdminConfigurationService {
 
         team = teamRepository.save(team);
         if (team.getStatus() == TeamStatus.ACTIVE && request.memberIds() != null && !request.memberIds().isEmpty()) {
-            addMembers(actorId, team, new HashSet<>(request.memberIds()));
+            MembershipChanges changes = new MembershipChanges();
+            addMembers(team, new HashSet<>(request.memberIds()), changes);
+            publishMembershipChanges(actorId, changes);
+            rbacCacheInvalidator.invalidateForTeams(List.of(team.getId()));
         }
         eventPublisher.publishPostCommit("TeamCreated", Map.of(
                 "teamId", team.getId().toString(),
@@ -255,12 +332,14 @@ public class AdminConfigurationService {
     private void syncMemberships(UUID actorId, User user, Set<UUID> requestedTeamIds) {
         List<TeamMembership> existingMemberships = teamMembershipRepository.findByUserId(user.getId());
         Set<UUID> remaining = new HashSet<>(requestedTeamIds);
+        List<TeamMembership> changed = new ArrayList<>();
+        MembershipChanges changes = new MembershipChanges();
 
         for (TeamMembership membership : existingMemberships) {
             UUID teamId = membership.getTeam().getId();
             if (membership.getTeam().getStatus() == TeamStatus.ARCHIVED) {
                 membership.setStatus(TeamMembershipStatus.INACTIVE);
-                teamMembershipRepository.save(membership);
+                changed.add(membership);
                 remaining.remove(teamId);
                 continue;
             }
@@ -268,28 +347,29 @@ public class AdminConfigurationService {
                 remaining.remove(teamId);
                 if (membership.getStatus() != TeamMembershipStatus.ACTIVE) {
                     membership.setStatus(TeamMembershipStatus.ACTIVE);
-                    teamMembershipRepository.save(membership);
+                    changed.add(membership);
                 }
             } else {
                 membership.setStatus(TeamMembershipStatus.INACTIVE);
-                teamMembershipRepository.save(membership);
-                eventPublisher.publishPostCommit("TeamMembershipRemoved", Map.of(
-                        "userId", user.getId().toString(),
-                        "teamId", teamId.toString()
-                ));
-                auditService.recordTeamMembershipRemoved(actorId, user.getId(), teamId);
+                changed.add(membership);
+                changes.removed(user.getId(), teamId);
             }
         }
-
+        if (!changed.isEmpty()) {
+            teamMembershipRepository.saveAll(changed);
+        }
         if (!remaining.isEmpty()) {
-            addMembers(actorId, user, remaining);
+            addMembers(user, remaining, changes);
         }
+        publishMembershipChanges(actorId, changes);
     }
 
     private Set<UUID> syncTeamMemberships(UUID actorId, Team team, Set<UUID> requestedUserIds) {
         List<TeamMembership> existingMemberships = teamMembershipRepository.findByTeamId(team.getId());
         Set<UUID> remaining = new HashSet<>(requestedUserIds);
         Set<UUID> touchedUsers = new HashSet<>();
+        List<TeamMembership> changed = new ArrayList<>();
+        MembershipChanges changes = new MembershipChanges();
 
         for (TeamMembership membership : existingMemberships) {
             UUID userId = membership.getUser().getId();
@@ -297,65 +377,76 @@ public class AdminConfigurationService {
                 remaining.remove(userId);
                 if (team.getStatus() == TeamStatus.ARCHIVED) {
                     membership.setStatus(TeamMembershipStatus.INACTIVE);
-                    teamMembershipRepository.save(membership);
+                    changed.add(membership);
                     touchedUsers.add(userId);
                 } else if (membership.getStatus() != TeamMembershipStatus.ACTIVE) {
                     membership.setStatus(TeamMembershipStatus.ACTIVE);
-                    teamMembershipRepository.save(membership);
+                    changed.add(membership);
                     touchedUsers.add(userId);
                 }
             } else {
                 membership.setStatus(TeamMembershipStatus.INACTIVE);
-                teamMembershipRepository.save(membership);
-                eventPublisher.publishPostCommit("TeamMembershipRemoved", Map.of(
-                        "userId", userId.toString(),
-                        "teamId", team.getId().toString()
-                ));
-                auditService.recordTeamMembershipRemoved(actorId, userId, team.getId());
+                changed.add(membership);
+                changes.removed(userId, team.getId());
                 touchedUsers.add(userId);
             }
         }
+        if (!changed.isEmpty()) {
+            teamMembershipRepository.saveAll(changed);
+        }
         if (!remaining.isEmpty() && team.getStatus() != TeamStatus.ARCHIVED) {
-            addMembers(actorId, team, remaining);
+            addMembers(team, remaining, changes);
             touchedUsers.addAll(remaining);
         }
+        publishMembershipChanges(actorId, changes);
         return touchedUsers;
     }
 
-    private void addMembers(UUID actorId, User user, Set<UUID> teamIds) {
-        for (UUID teamId : teamIds) {
-            Team team = teamRepository.findById(teamId)
-                    .orElseThrow(() -> new IllegalArgumentException("team_not_found"));
+    private void addMembers(User user, Set<UUID> teamIds, MembershipChanges changes) {
+        List<Team> teams = teamRepository.findAllById(teamIds);
+        if (teams.size() != teamIds.size()) {
+            throw new IllegalArgumentException("team_not_found");
+        }
+        List<TeamMembership> memberships = new ArrayList<>(teams.size());
+        for (Team team : teams) {
             if (team.getStatus() == TeamStatus.ARCHIVED) {
                 throw new IllegalStateException("team_archived");
             }
-            TeamMembership membership = new TeamMembership();
-            membership.setTeam(team);
-            membership.setUser(user);
-            membership.setStatus(TeamMembershipStatus.ACTIVE);
-            teamMembershipRepository.save(membership);
-            eventPublisher.publishPostCommit("TeamMembershipAdded", Map.of(
-                    "userId", user.getId().toString(),
-                    "teamId", team.getId().toString()
-            ));
-            auditService.recordTeamMembershipAdded(actorId, user.getId(), team.getId());
+            memberships.add(newMembership(team, user));
+            changes.added(user.getId(), team.getId());
         }
+        teamMembershipRepository.saveAll(memberships);
     }
 
-    private void addMembers(UUID actorId, Team team, Set<UUID> userIds) {
-        for (UUID userId : userIds) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("user_not_found"));
-            TeamMembership membership = new TeamMembership();
-            membership.setTeam(team);
-            membership.setUser(user);
-            membership.setStatus(TeamMembershipStatus.ACTIVE);
-            teamMembershipRepository.save(membership);
-            eventPublisher.publishPostCommit("TeamMembershipAdded", Map.of(
-                    "userId", user.getId().toString(),
-                    "teamId", team.getId().toString()
-            ));
-            auditService.recordTeamMembershipAdded(actorId, user.getId(), team.getId());
+    private void addMembers(Team team, Set<UUID> userIds, MembershipChanges changes) {
+        List<User> users = userRepository.findAllById(userIds);
+        if (users.size() != userIds.size()) {
+            throw new IllegalArgumentException("user_not_found");
+        }
+        List<TeamMembership> memberships = new ArrayList<>(users.size());
+        for (User user : users) {
+            memberships.add(newMembership(team, user));
+            changes.added(user.getId(), team.getId());
+        }
+        teamMembershipRepository.saveAll(memberships);
+    }
+
+    private TeamMembership newMembership(Team team, User user) {
+        TeamMembership membership = new TeamMembership();
+        membership.setTeam(team);
+        membership.setUser(user);
+        membership.setStatus(TeamMembershipStatus.ACTIVE);
+        return membership;
+    }
+
+    private void publishMembershipChanges(UUID actorId, MembershipChanges changes) {
+        if (!changes.removed.isEmpty()) {
+            eventPublisher.publishAllPostCommit("TeamMembershipRemoved", changes.payloads(changes.removed));
+            auditService.recordTeamMembershipsRemoved(actorId, changes.removed);
+        }
+        if (!changes.added.isEmpty()) {
+            eventPublisher.publishAllPostCommit("TeamMembershipAdded", changes.payloads(changes.added));
+            auditService.recordTeamMembershipsAdded(actorId, changes.added);
         }
     }
 
@@ -397,12 +488,41 @@ public class AdminConfigurationService {
         }
     }
 
+    private PageRequest pageRequest(AdminListQuery query, Set<String> sortFields, String defaultSort) {
+        int page = query.page() != null ? Math.max(0, query.page()) : 0;
+        int size = query.size() != null ? Math.min(MAX_PAGE_SIZE, Math.max(1, query.size())) : DEFAULT_PAGE_SIZE;
+        String field = defaultSort;
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (StringUtils.hasText(query.sort())) {
+            String[] parts = query.sort().split(",");
+            field = parts[0].trim();
+            if (!sortFields.contains(field)) {
+                throw new IllegalArgumentException("invalid_sort");
+            }
+            if (parts.length > 1) {
+                direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                        .orElseThrow(() -> new IllegalArgumentException("invalid_sort"));
+            }
+        }
+        return PageRequest.of(page, size, Sort.by(direction, field).and(Sort.by("id")));
+    }
+
+    private Map<UUID, List<UUID>> groupBy(List<MembershipPair> pairs,
+                                          Function<MembershipPair, UUID> key,
+                                          Function<MembershipPair, UUID> value) {
+        return pairs.stream().collect(Collectors.groupingBy(key, Collectors.mapping(value, Collectors.toList())));
+    }
+
     private AdminUserView toUserView(User user) {
         List<TeamMembership> memberships = teamMembershipRepository.findByUserId(user.getId());
         List<UUID> teamIds = memberships.stream()
                 .filter(tm -> tm.getStatus() == TeamMembershipStatus.ACTIVE && tm.getTeam().getStatus() == TeamStatus.ACTIVE)
                 .map(tm -> tm.getTeam().getId())
                 .toList();
+        return toUserView(user, teamIds);
+    }
+
+    private AdminUserView toUserView(User user, List<UUID> teamIds) {
         List<String> roles = roleService.toRoleCodes(user.getRoles());
         return new AdminUserView(
                 user.getId(),
@@ -422,6 +542,10 @@ public class AdminConfigurationService {
                 .filter(tm -> tm.getStatus() == TeamMembershipStatus.ACTIVE)
                 .map(tm -> tm.getUser().getId())
                 .toList();
+        return toTeamView(team, memberIds);
+    }
+
+    private AdminTeamView toTeamView(Team team, List<UUID> memberIds) {
         return new AdminTeamView(
                 team.getId(),
                 team.getName(),
@@ -430,4 +554,26 @@ public class AdminConfigurationService {
                 team.getCreatedAt()
         );
     }
+
+    private static final class MembershipChanges {
+        private final Map<UUID, List<UUID>> added = new LinkedHashMap<>();
+        private final Map<UUID, List<UUID>> removed = new LinkedHashMap<>();
+
+        void added(UUID userId, UUID teamId) {
+            added.computeIfAbsent(userId, id -> new ArrayList<>()).add(teamId);
+        }
+
+        void removed(UUID userId, UUID teamId) {
+            removed.computeIfAbsent(userId, id -> new ArrayList<>()).add(teamId);
+        }
+
+        List<Map<String, Object>> payloads(Map<UUID, List<UUID>> teamIdsByUser) {
+            List<Map<String, Object>> payloads = new ArrayList<>();
+            teamIdsByUser.forEach((userId, teamIds) -> teamIds.forEach(teamId -> payloads.add(Map.of(
+                    "userId", userId.toString(),
+                    "teamId", teamId.toString()
+            ))));
+            return payloads;
+        }
+    }
 }
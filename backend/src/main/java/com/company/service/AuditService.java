@@ -2,20 +2,18 @@ package com.company.service;
 
 import com.company.model.AuditActionType;
 import com.company.model.AuditLog;
-import com.company.repos.AuditLogRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
 @Service
 public class AuditService {
-    private static final Logger log = LoggerFactory.getLogger(AuditService.class);
+    private final AuditWriter auditWriter;
 
-    private final AuditLogRepository auditLogRepository;
-
-    public AuditService(AuditLogRepository auditLogRepository) {
-        this.auditLogRepository = auditLogRepository;
+    public AuditService(AuditWriter auditWriter) {
+        this.auditWriter = auditWriter;
     }
 
     public void recordDashboardView(UUID actorId, boolean balanceUnavailable) {
@@ -25,11 +23,7 @@ public class AuditService {
         logEntry.setEntityType("DASHBOARD");
         logEntry.setEntityId("EMPLOYEE");
         logEntry.setDetails("balance_unavailable=" + balanceUnavailable);
-        try {
-            auditLogRepository.save(logEntry);
-        } catch (Exception ex) {
-            log.warn("Failed to persist audit log for dashboard view: {}", ex.getMessage());
-        }
+        auditWriter.enqueue(logEntry, "dashboard view");
     }
 
     public void recordSubmission(UUID actorId, UUID requestId, String requestCode, int numberOfDays) {
@@ -49,7 +43,7 @@ public class AuditService {
         logEntry.setEntityType("VACATION_REQUEST");
         logEntry.setEntityId("SUBMISSION");
         logEntry.setDetails(reason);
-        persistSafely(logEntry, "submission blocked");
+        auditWriter.enqueue(logEntry, "submission blocked");
     }
 
     public void recordDecision(UUID actorId, UUID requestId, String requestCode, boolean approved, String note) {
@@ -69,7 +63,7 @@ public class AuditService {
         logEntry.setEntityType("VACATION_REQUEST");
         logEntry.setEntityId(requestId != null ? requestId.toString() : requestCode);
         logEntry.setDetails("processing_attempt");
-        persistSafely(logEntry, "hr processing attempt");
+        auditWriter.enqueue(logEntry, "hr processing attempt");
     }
 
     public void recordProcessingSuccess(UUID actorId, UUID requestId, String requestCode) {
@@ -102,6 +96,20 @@ public class AuditService {
         persistSafely(logEntry, "user invite");
     }
 
+    public void recordUserInvites(UUID actorId, Map<UUID, String> usernamesById) {
+        List<AuditLog> entries = new ArrayList<>(usernamesById.size());
+        usernamesById.forEach((userId, username) -> {
+            AuditLog logEntry = new AuditLog();
+            logEntry.setActorId(actorId);
+            logEntry.setActionType(AuditActionType.ADMIN_USER_INVITED);
+            logEntry.setEntityType("USER");
+            logEntry.setEntityId(userId.toString());
+            logEntry.setDetails(username);
+            entries.add(logEntry);
+        });
+        auditWriter.writeAllNow(entries, "user import");
+    }
+
     public void recordUserActivation(UUID actorId, UUID userId, String username) {
         AuditLog logEntry = new AuditLog();
         logEntry.setActorId(actorId);
@@ -162,24 +170,12 @@ public class AuditService {
         persistSafely(logEntry, "team updated");
     }
 
-    public void recordTeamMembershipAdded(UUID actorId, UUID userId, UUID teamId) {
-        AuditLog logEntry = new AuditLog();
-        logEntry.setActorId(actorId);
-        logEntry.setActionType(AuditActionType.ADMIN_TEAM_MEMBERSHIP_ADDED);
-        logEntry.setEntityType("TEAM_MEMBERSHIP");
-        logEntry.setEntityId(teamId + ":" + userId);
-        logEntry.setDetails("added");
-        persistSafely(logEntry, "team membership added");
+    public void recordTeamMembershipsAdded(UUID actorId, Map<UUID, List<UUID>> teamIdsByUser) {
+        recordTeamMemberships(actorId, teamIdsByUser, AuditActionType.ADMIN_TEAM_MEMBERSHIP_ADDED, "added");
     }
 
-    public void recordTeamMembershipRemoved(UUID actorId, UUID userId, UUID teamId) {
-        AuditLog logEntry = new AuditLog();
-        logEntry.setActorId(actorId);
-        logEntry.setActionType(AuditActionType.ADMIN_TEAM_MEMBERSHIP_REMOVED);
-        logEntry.setEntityType("TEAM_MEMBERSHIP");
-        logEntry.setEntityId(teamId + ":" + userId);
-        logEntry.setDetails("removed");
-        persistSafely(logEntry, "team membership removed");
+    public void recordTeamMembershipsRemoved(UUID actorId, Map<UUID, List<UUID>> teamIdsByUser) {
+        recordTeamMemberships(actorId, teamIdsByUser, AuditActionType.ADMIN_TEAM_MEMBERSHIP_REMOVED, "removed");
     }
 
     public void recordIntegrationConfigured(UUID actorId, UUID configId, String type, String endpoint) {
@@ -209,7 +205,7 @@ public class AuditService {
         logEntry.setEntityType("HOLIDAY_IMPORT");
         logEntry.setEntityId(Integer.toString(year));
         logEntry.setDetails("imported=" + imported + ", skipped=" + skipped + ", outcome=" + outcome);
-        persistSafely(logEntry, "holiday import");
+        auditWriter.enqueue(logEntry, "holiday import");
     }
 
     public void recordHolidayDeprecation(UUID actorId, UUID holidayId, String reason) {
@@ -222,11 +218,24 @@ public class AuditService {
         persistSafely(logEntry, "holiday deprecation");
     }
 
+    private void recordTeamMemberships(UUID actorId,
+                                       Map<UUID, List<UUID>> teamIdsByUser,
+                                       AuditActionType actionType,
+                                       String details) {
+        List<AuditLog> entries = new ArrayList<>();
+        teamIdsByUser.forEach((userId, teamIds) -> teamIds.forEach(teamId -> {
+            AuditLog logEntry = new AuditLog();
+            logEntry.setActorId(actorId);
+            logEntry.setActionType(actionType);
+            logEntry.setEntityType("TEAM_MEMBERSHIP");
+            logEntry.setEntityId(teamId + ":" + userId);
+            logEntry.setDetails(details);
+            entries.add(logEntry);
+        }));
+        auditWriter.writeAllNow(entries, "team memberships " + details);
+    }
+
     private void persistSafely(AuditLog logEntry, String context) {
-        try {
-            auditLogRepository.save(logEntry);
-        } catch (Exception ex) {
-            log.warn("Failed to persist audit log for {}: {}", context, ex.getMessage());
-        }
+        auditWriter.writeNow(logEntry, context);
     }
 }
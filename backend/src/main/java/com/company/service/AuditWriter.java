@@ -0,0 +1,238 @@
+package com.company.service;
+
+import com.company.model.AuditLog;
+import com.company.repos.AuditLogBatchRepository;
+import com.company.repos.AuditLogRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class AuditWriter implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(AuditWriter.class);
+
+    private final AuditLogRepository auditLogRepository;
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final BlockingQueue<AuditLogBatchRepository.Row> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long enqueueTimeoutMillis;
+    private Thread flusher;
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writtenSync = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong backPressureWaits = new AtomicLong();
+    private volatile boolean running;
+
+    public AuditWriter(AuditLogRepository auditLogRepository,
+                       AuditLogBatchRepository auditLogBatchRepository,
+                       @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                       @Value("${app.audit.batch-size:200}") int batchSize,
+                       @Value("${app.audit.flush-interval:PT0.5S}") Duration flushInterval,
+                       @Value("${app.audit.enqueue-timeout:PT0.05S}") Duration enqueueTimeout) {
+        this.auditLogRepository = auditLogRepository;
+        this.auditLogBatchRepository = auditLogBatchRepository;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.enqueueTimeoutMillis = enqueueTimeout.toMillis();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        flusher = new Thread(this::runFlusher, "audit-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            flusher = null;
+        }
+        List<AuditLogBatchRepository.Row> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int from = 0; from < remaining.size(); from += batchSize) {
+            flush(remaining.subList(from, Math.min(remaining.size(), from + batchSize)));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Start before and stop after the web server so audit entries from draining requests are still written.
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    // Inside a transaction the entry is only queued once it commits, so a rolled-back outcome is never logged.
+    public void enqueue(AuditLog entry, String context) {
+        AuditLogBatchRepository.Row row = toRow(entry);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            offer(row, context);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                offer(row, context);
+            }
+        });
+    }
+
+    private void offer(AuditLogBatchRepository.Row row, String context) {
+        if (queue.offer(row)) {
+            enqueued.incrementAndGet();
+            return;
+        }
+        backPressureWaits.incrementAndGet();
+        try {
+            if (queue.offer(row, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                enqueued.incrementAndGet();
+                return;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        dropped.incrementAndGet();
+        log.warn("Audit queue full, dropped audit log for {}", context);
+    }
+
+    public void writeNow(AuditLog entry, String context) {
+        try {
+            auditLogRepository.save(entry);
+            writtenSync.incrementAndGet();
+        } catch (Exception ex) {
+            failed.incrementAndGet();
+            log.warn("Failed to persist audit log for {}: {}", context, ex.getMessage());
+        }
+    }
+
+    public void writeAllNow(List<AuditLog> entries, String context) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<AuditLogBatchRepository.Row> rows = new ArrayList<>(entries.size());
+        entries.forEach(entry -> rows.add(toRow(entry)));
+        try {
+            auditLogBatchRepository.insertBatch(rows);
+            writtenSync.addAndGet(rows.size());
+            batches.incrementAndGet();
+        } catch (Exception ex) {
+            failed.addAndGet(rows.size());
+            log.warn("Failed to persist {} audit logs for {}: {}", rows.size(), context, ex.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(
+                queue.size(),
+                queue.remainingCapacity(),
+                enqueued.get(),
+                written.get(),
+                writtenSync.get(),
+                batches.get(),
+                dropped.get(),
+                failed.get(),
+                backPressureWaits.get()
+        );
+    }
+
+    private void runFlusher() {
+        List<AuditLogBatchRepository.Row> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AuditLogBatchRepository.Row first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AuditLogBatchRepository.Row next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException ex) {
+                if (!running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private AuditLogBatchRepository.Row toRow(AuditLog entry) {
+        return new AuditLogBatchRepository.Row(
+                UUID.randomUUID(),
+                entry.getActorId(),
+                entry.getActionType().name(),
+                entry.getEntityType(),
+                entry.getEntityId(),
+                entry.getDetails(),
+                Instant.now()
+        );
+    }
+
+    private void flush(List<AuditLogBatchRepository.Row> batch) {
+        try {
+            auditLogBatchRepository.insertBatch(batch);
+            written.addAndGet(batch.size());
+            batches.incrementAndGet();
+        } catch (Exception ex) {
+            failed.addAndGet(batch.size());
+            log.warn("Failed to write batch of {} audit logs: {}", batch.size(), ex.getMessage());
+        }
+    }
+
+    public record Stats(int queued,
+                        int remainingCapacity,
+                        long enqueued,
+                        long written,
+                        long writtenSync,
+                        long batches,
+                        long dropped,
+                        long failed,
+                        long backPressureWaits) {
+    }
+}
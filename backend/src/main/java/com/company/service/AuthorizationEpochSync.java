@@ -0,0 +1,97 @@
+package com.company.service;
+
+import com.company.repos.UserAuthorizationRepository;
+import com.company.repos.UserAuthorizationRepository.AuthorizationChange;
+import com.company.security.AuthorizationEpochs;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class AuthorizationEpochSync {
+    private static final Logger log = LoggerFactory.getLogger(AuthorizationEpochSync.class);
+    private static final Duration CURSOR_OVERLAP = Duration.ofMinutes(1);
+
+    private final UserAuthorizationRepository userAuthorizationRepository;
+    private final AuthorizationEpochs authorizationEpochs;
+    private final Duration sessionTimeout;
+    private final Clock clock;
+    private final Map<UUID, Instant> seenChanges = new ConcurrentHashMap<>();
+    private volatile Instant cursor;
+
+    @Autowired
+    public AuthorizationEpochSync(UserAuthorizationRepository userAuthorizationRepository,
+                                  AuthorizationEpochs authorizationEpochs,
+                                  @Value("${server.servlet.session.timeout:30m}") Duration sessionTimeout) {
+        this(userAuthorizationRepository, authorizationEpochs, sessionTimeout, Clock.systemUTC());
+    }
+
+    AuthorizationEpochSync(UserAuthorizationRepository userAuthorizationRepository,
+                           AuthorizationEpochs authorizationEpochs,
+                           Duration sessionTimeout,
+                           Clock clock) {
+        this.userAuthorizationRepository = userAuthorizationRepository;
+        this.authorizationEpochs = authorizationEpochs;
+        this.sessionTimeout = sessionTimeout;
+        this.clock = clock;
+    }
+
+    public void recordChange(UUID userId) {
+        Instant changedAt = clock.instant();
+        userAuthorizationRepository.markChanged(userId, changedAt);
+        seenChanges.put(userId, changedAt);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            authorizationEpochs.markChanged(userId, clock.millis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                authorizationEpochs.markChanged(userId, clock.millis());
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.rbac.epoch-sync-ms:5000}",
+            fixedDelayString = "${app.rbac.epoch-sync-ms:5000}"
+    )
+    public void sync() {
+        Instant now = clock.instant();
+        Instant since = cursor;
+        boolean initial = since == null;
+        if (initial) {
+            since = now.minus(sessionTimeout);
+        }
+        try {
+            Instant newest = since;
+            for (AuthorizationChange change : userAuthorizationRepository.findChangesSince(since)) {
+                Instant previous = seenChanges.put(change.userId(), change.changedAt());
+                if (previous == null || change.changedAt().isAfter(previous)) {
+                    long changedAt = initial ? change.changedAt().toEpochMilli() : now.toEpochMilli();
+                    authorizationEpochs.markChanged(change.userId(), changedAt);
+                }
+                if (change.changedAt().isAfter(newest)) {
+                    newest = change.changedAt();
+                }
+            }
+            cursor = newest.minus(CURSOR_OVERLAP);
+        } catch (RuntimeException ex) {
+            log.warn("Authorization change sync failed: {}", ex.getMessage());
+        }
+        Instant cutoff = now.minus(sessionTimeout);
+        authorizationEpochs.pruneOlderThan(cutoff.toEpochMilli());
+        seenChanges.values().removeIf(changedAt -> changedAt.isBefore(cutoff));
+    }
+}
@@ -0,0 +1,145 @@
+package com.company.service;
+
+import com.company.integration.VacationBalanceClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+public class BalanceCache {
+
+    private final Duration ttl;
+    private final Duration unavailableTtl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final LinkedHashMap<UUID, CachedBalance> entries;
+    // Bumped on every invalidation so a fetch that started before it cannot re-insert its result.
+    private final Map<UUID, Long> generations = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    @Autowired
+    public BalanceCache(@Value("${app.balance-cache.ttl:PT5M}") Duration ttl,
+                        @Value("${app.balance-cache.unavailable-ttl:PT30S}") Duration unavailableTtl,
+                        @Value("${app.balance-cache.max-entries:10000}") int maxEntries) {
+        this(ttl, unavailableTtl, maxEntries, Clock.systemUTC());
+    }
+
+    BalanceCache(Duration ttl, Duration unavailableTtl, int maxEntries, Clock clock) {
+        this.ttl = ttl;
+        this.unavailableTtl = unavailableTtl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedBalance> eldest) {
+                if (size() > BalanceCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public VacationBalanceClient.BalanceResult get(UUID userId) {
+        Instant now = clock.instant();
+        synchronized (entries) {
+            CachedBalance cached = entries.get(userId);
+            if (cached == null) {
+                misses.incrementAndGet();
+                return null;
+            }
+            if (!cached.expiresAt().isAfter(now)) {
+                entries.remove(userId);
+                expirations.incrementAndGet();
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return cached.result();
+        }
+    }
+
+    public long generation(UUID userId) {
+        synchronized (entries) {
+            return generations.getOrDefault(userId, 0L);
+        }
+    }
+
+    public void put(UUID userId, long generation, VacationBalanceClient.BalanceResult result) {
+        Duration lifetime = result.unavailable() ? unavailableTtl : ttl;
+        if (lifetime.isZero() || lifetime.isNegative()) {
+            return;
+        }
+        CachedBalance cached = new CachedBalance(result, clock.instant().plus(lifetime));
+        synchronized (entries) {
+            if (generations.getOrDefault(userId, 0L) == generation) {
+                entries.put(userId, cached);
+            }
+        }
+    }
+
+    public void invalidate(UUID userId) {
+        synchronized (entries) {
+            generations.merge(userId, 1L, Long::sum);
+            if (entries.remove(userId) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    public void invalidateAfterCommit(UUID userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(userId);
+            }
+        });
+    }
+
+    public CacheStats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new CacheStats(
+                hits.get(),
+                misses.get(),
+                evictions.get(),
+                expirations.get(),
+                invalidations.get(),
+                size,
+                maxEntries
+        );
+    }
+
+    private record CachedBalance(VacationBalanceClient.BalanceResult result, Instant expiresAt) {
+    }
+
+    public record CacheStats(long hits,
+                             long misses,
+                             long evictions,
+                             long expirations,
+                             long invalidations,
+                             int size,
+                             int maxEntries) {
+    }
+}
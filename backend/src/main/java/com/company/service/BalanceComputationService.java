@@ -4,8 +4,13 @@ import com.company.dto.TentativeBalanceDto;
 import com.company.integration.VacationBalanceClient;
 import com.company.model.VacationRequestStatus;
 import com.company.repos.VacationRequestRepository;
-import jakarta.servlet.http.HttpSession;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
 
@@ -13,45 +18,81 @@ import org.springframework.stereotype.Service;
 public class BalanceComputationService {
 
     private final VacationBalanceClient vacationBalanceClient;
-    private final BalanceSessionCache balanceSessionCache;
+    private final BalanceCache balanceCache;
     private final VacationRequestRepository vacationRequestRepository;
 
     public BalanceComputationService(VacationBalanceClient vacationBalanceClient,
-                                     BalanceSessionCache balanceSessionCache,
+                                     BalanceCache balanceCache,
                                      VacationRequestRepository vacationRequestRepository) {
         this.vacationBalanceClient = vacationBalanceClient;
-        this.balanceSessionCache = balanceSessionCache;
+        this.balanceCache = balanceCache;
         this.vacationRequestRepository = vacationRequestRepository;
     }
 
-    public TentativeBalanceDto computeForUser(UUID userId, HttpSession session) {
-        BalanceSessionCache.BalanceSnapshot cached = balanceSessionCache.getSnapshot(session, userId);
-        VacationBalanceClient.BalanceResult balanceResult;
-        if (cached != null) {
-            balanceResult = cached.unavailable()
-                    ? VacationBalanceClient.BalanceResult.unavailable("cached unavailable")
-                    : VacationBalanceClient.BalanceResult.available(cached.balance());
-        } else {
-            balanceResult = vacationBalanceClient.fetchBalance(userId);
-            if (balanceResult.unavailable()) {
-                balanceSessionCache.storeUnavailable(session, userId);
+    public TentativeBalanceDto computeForUser(UUID userId) {
+        return computeTentative(userId, loadBalance(userId));
+    }
+
+    public TentativeBalanceDto computeForManagerView(UUID userId) {
+        return computeTentative(userId, loadBalance(userId));
+    }
+
+    public Map<UUID, TentativeBalanceDto> computeForManagerView(Collection<UUID> userIds) {
+        Map<UUID, VacationBalanceClient.BalanceResult> balanceResults = new HashMap<>();
+        Map<UUID, Long> uncachedGenerations = new HashMap<>();
+        List<UUID> uncached = new ArrayList<>();
+        for (UUID userId : new LinkedHashSet<>(userIds)) {
+            VacationBalanceClient.BalanceResult cached = balanceCache.get(userId);
+            if (cached != null) {
+                balanceResults.put(userId, cached);
             } else {
-                balanceSessionCache.store(session, userId, balanceResult.balance());
+                uncachedGenerations.put(userId, balanceCache.generation(userId));
+                uncached.add(userId);
             }
         }
-        return computeTentative(userId, balanceResult);
+        if (!uncached.isEmpty()) {
+            vacationBalanceClient.fetchBalances(uncached).forEach((userId, balanceResult) -> {
+                balanceCache.put(userId, uncachedGenerations.getOrDefault(userId, -1L), balanceResult);
+                balanceResults.put(userId, balanceResult);
+            });
+        }
+        List<UUID> available = balanceResults.entrySet().stream()
+                .filter(entry -> !entry.getValue().unavailable())
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<UUID, Long> pendingDays = new HashMap<>();
+        if (!available.isEmpty()) {
+            vacationRequestRepository.sumDaysForStatusByUsers(available, VacationRequestStatus.PENDING)
+                    .forEach(total -> pendingDays.put(total.getUserId(), total.getTotalDays()));
+        }
+        Map<UUID, TentativeBalanceDto> balances = new HashMap<>();
+        balanceResults.forEach((userId, balanceResult) ->
+                balances.put(userId, toTentative(balanceResult, pendingDays.getOrDefault(userId, 0L))));
+        return balances;
     }
 
-    public TentativeBalanceDto computeForManagerView(UUID userId) {
+    private VacationBalanceClient.BalanceResult loadBalance(UUID userId) {
+        VacationBalanceClient.BalanceResult cached = balanceCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = balanceCache.generation(userId);
         VacationBalanceClient.BalanceResult balanceResult = vacationBalanceClient.fetchBalance(userId);
-        return computeTentative(userId, balanceResult);
+        balanceCache.put(userId, generation, balanceResult);
+        return balanceResult;
     }
 
     private TentativeBalanceDto computeTentative(UUID userId, VacationBalanceClient.BalanceResult balanceResult) {
+        if (balanceResult.unavailable()) {
+            return toTentative(balanceResult, 0);
+        }
+        return toTentative(balanceResult, vacationRequestRepository.sumDaysForStatus(userId, VacationRequestStatus.PENDING));
+    }
+
+    private TentativeBalanceDto toTentative(VacationBalanceClient.BalanceResult balanceResult, long pendingDays) {
         BigDecimal official = balanceResult.unavailable() ? null : balanceResult.balance();
         BigDecimal tentative = null;
         if (official != null) {
-            long pendingDays = vacationRequestRepository.sumDaysForStatus(userId, VacationRequestStatus.PENDING);
             tentative = official.subtract(BigDecimal.valueOf(pendingDays));
             if (tentative.compareTo(BigDecimal.ZERO) < 0) {
                 tentative = BigDecimal.ZERO;
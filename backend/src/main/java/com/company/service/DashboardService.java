@@ -4,14 +4,10 @@ import com.company.dto.DashboardResponse;
 import com.company.dto.TentativeBalanceDto;
 import com.company.model.Holiday;
 import com.company.model.HolidayStatus;
-import com.company.model.TeamMembershipStatus;
-import com.company.model.TeamStatus;
 import com.company.model.VacationRequest;
 import com.company.model.VacationRequestStatus;
 import com.company.repos.HolidayRepository;
-import com.company.repos.TeamMembershipRepository;
 import com.company.repos.VacationRequestRepository;
-import jakarta.servlet.http.HttpSession;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
@@ -24,24 +20,24 @@ public class DashboardService {
 
     private final VacationRequestRepository vacationRequestRepository;
     private final HolidayRepository holidayRepository;
-    private final TeamMembershipRepository teamMembershipRepository;
+    private final TeamVisibilityGraph teamVisibilityGraph;
     private final BalanceComputationService balanceComputationService;
     private final AuditService auditService;
 
     public DashboardService(VacationRequestRepository vacationRequestRepository,
                             HolidayRepository holidayRepository,
-                            TeamMembershipRepository teamMembershipRepository,
+                            TeamVisibilityGraph teamVisibilityGraph,
                             BalanceComputationService balanceComputationService,
                             AuditService auditService) {
         this.vacationRequestRepository = vacationRequestRepository;
         this.holidayRepository = holidayRepository;
-        this.teamMembershipRepository = teamMembershipRepository;
+        this.teamVisibilityGraph = teamVisibilityGraph;
         this.balanceComputationService = balanceComputationService;
         this.auditService = auditService;
     }
 
-    public DashboardResponse loadDashboard(UUID userId, HttpSession session, LocalDate startDate, LocalDate endDate) {
-        TentativeBalanceDto balanceResult = balanceComputationService.computeForUser(userId, session);
+    public DashboardResponse loadDashboard(UUID userId, LocalDate startDate, LocalDate endDate) {
+        TentativeBalanceDto balanceResult = balanceComputationService.computeForUser(userId);
         List<VacationRequest> myVacations = vacationRequestRepository.findOverlappingForUser(userId, startDate, endDate);
         List<VacationRequest> teammateVacations = loadTeamVacations(userId, startDate, endDate);
         List<Holiday> holidays = holidayRepository.findForRange(HolidayStatus.IMPORTED, startDate, endDate);
@@ -58,29 +54,13 @@ public class DashboardService {
     }
 
     private List<VacationRequest> loadTeamVacations(UUID userId, LocalDate startDate, LocalDate endDate) {
-        List<UUID> teamIds = teamMembershipRepository.findActiveTeamIdsForUser(
-                userId,
-                TeamMembershipStatus.ACTIVE,
-                TeamStatus.ACTIVE
-        );
-        if (teamIds.isEmpty()) {
-            return List.of();
-        }
-        List<UUID> teamUserIds = teamMembershipRepository.findActiveUserIdsForTeams(
-                teamIds,
-                TeamMembershipStatus.ACTIVE,
-                TeamStatus.ACTIVE
-        );
-        if (teamUserIds.isEmpty()) {
-            return List.of();
-        }
-        Set<UUID> dedupedUserIds = new HashSet<>(teamUserIds);
-        dedupedUserIds.remove(userId);
-        if (dedupedUserIds.isEmpty()) {
+        Set<UUID> teammateIds = new HashSet<>(teamVisibilityGraph.visibleUserIds(userId));
+        teammateIds.remove(userId);
+        if (teammateIds.isEmpty()) {
             return List.of();
         }
         return vacationRequestRepository.findTeamVacations(
-                dedupedUserIds,
+                teammateIds,
                 List.of(VacationRequestStatus.PENDING, VacationRequestStatus.APPROVED),
                 startDate,
                 endDate
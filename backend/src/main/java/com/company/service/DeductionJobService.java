@@ -0,0 +1,69 @@
+package com.company.service;
+
+import com.company.model.DeductionJob;
+import com.company.model.DeductionJobStatus;
+import com.company.model.ExternalDeductionStatus;
+import com.company.model.VacationRequest;
+import com.company.repos.DeductionJobRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DeductionJobService {
+
+    private final DeductionJobRepository deductionJobRepository;
+
+    public DeductionJobService(DeductionJobRepository deductionJobRepository) {
+        this.deductionJobRepository = deductionJobRepository;
+    }
+
+    public int enqueue(Collection<VacationRequest> requests, UUID hrId, String hrNotes) {
+        List<UUID> ids = requests.stream().map(VacationRequest::getId).toList();
+        Map<UUID, DeductionJob> existing = deductionJobRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(DeductionJob::getRequestId, Function.identity()));
+        Instant now = Instant.now();
+        List<DeductionJob> jobs = new ArrayList<>();
+        int inserted = 0;
+        for (VacationRequest request : requests) {
+            DeductionJob job = existing.get(request.getId());
+            if (job == null) {
+                // A concurrent enqueue of the same request may have inserted the row since the lookup; that one wins.
+                if (deductionJobRepository.insertIfAbsent(request.getId(), hrId, hrNotes, now) > 0) {
+                    inserted++;
+                    request.setExternalDeductionStatus(ExternalDeductionStatus.PENDING);
+                }
+                continue;
+            }
+            if (isActive(job)) {
+                continue;
+            }
+            job.setHrId(hrId);
+            job.setHrNotes(hrNotes);
+            job.setStatus(DeductionJobStatus.PENDING);
+            job.setAttempts(0);
+            job.setNextAttemptAt(now);
+            job.setLastError(null);
+            job.setCompletedAt(null);
+            jobs.add(job);
+            request.setExternalDeductionStatus(ExternalDeductionStatus.PENDING);
+        }
+        deductionJobRepository.saveAll(jobs);
+        return inserted + jobs.size();
+    }
+
+    public Optional<DeductionJob> find(UUID requestId) {
+        return deductionJobRepository.findById(requestId);
+    }
+
+    private boolean isActive(DeductionJob job) {
+        return job.getStatus() == DeductionJobStatus.PENDING || job.getStatus() == DeductionJobStatus.IN_PROGRESS;
+    }
+}
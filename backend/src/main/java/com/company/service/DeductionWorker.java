@@ -0,0 +1,241 @@
+package com.company.service;
+
+import com.company.integration.EventPublisher;
+import com.company.integration.ExternalDeductionClient;
+import com.company.model.DeductionJob;
+import com.company.model.DeductionJobStatus;
+import com.company.model.ExternalDeductionStatus;
+import com.company.model.VacationRequest;
+import com.company.model.VacationRequestStatus;
+import com.company.repos.DeductionJobRepository;
+import com.company.repos.UserRepository;
+import com.company.repos.VacationRequestRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+public class DeductionWorker {
+    private static final Logger log = LoggerFactory.getLogger(DeductionWorker.class);
+    private static final List<DeductionJobStatus> CLAIMABLE = List.of(DeductionJobStatus.PENDING, DeductionJobStatus.IN_PROGRESS);
+
+    private final DeductionJobRepository deductionJobRepository;
+    private final VacationRequestRepository vacationRequestRepository;
+    private final UserRepository userRepository;
+    private final ExternalDeductionClient externalDeductionClient;
+    private final BalanceCache balanceCache;
+    private final EventPublisher eventPublisher;
+    private final AuditService auditService;
+    private final Executor deductionExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final Duration retryBase;
+    private final Duration lease;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public DeductionWorker(DeductionJobRepository deductionJobRepository,
+                           VacationRequestRepository vacationRequestRepository,
+                           UserRepository userRepository,
+                           ExternalDeductionClient externalDeductionClient,
+                           BalanceCache balanceCache,
+                           EventPublisher eventPublisher,
+                           AuditService auditService,
+                           @Qualifier("deductionExecutor") Executor deductionExecutor,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.deductions.parallelism:8}") int parallelism,
+                           @Value("${app.deductions.max-attempts:5}") int maxAttempts,
+                           @Value("${app.deductions.retry-base:PT30S}") Duration retryBase,
+                           @Value("${app.deductions.lease:PT2M}") Duration lease) {
+        this.deductionJobRepository = deductionJobRepository;
+        this.vacationRequestRepository = vacationRequestRepository;
+        this.userRepository = userRepository;
+        this.externalDeductionClient = externalDeductionClient;
+        this.balanceCache = balanceCache;
+        this.eventPublisher = eventPublisher;
+        this.auditService = auditService;
+        this.deductionExecutor = deductionExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.parallelism = Math.max(1, parallelism);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBase = retryBase;
+        this.lease = lease;
+    }
+
+    @Scheduled(fixedDelayString = "${app.deductions.poll-ms:1000}")
+    public void poll() {
+        int capacity = parallelism - inFlight.get();
+        if (capacity <= 0) {
+            return;
+        }
+        try {
+            List<DeductionJob> claimed = transactionTemplate.execute(status -> claim(capacity));
+            if (claimed != null) {
+                claimed.forEach(this::submit);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Deduction worker poll failed: {}", ex.getMessage());
+        }
+    }
+
+    public Stats stats() {
+        return new Stats(
+                deductionJobRepository.countByStatus(DeductionJobStatus.PENDING),
+                deductionJobRepository.countByStatus(DeductionJobStatus.IN_PROGRESS),
+                deductionJobRepository.countByStatus(DeductionJobStatus.FAILED),
+                inFlight.get(),
+                succeeded.get(),
+                retried.get(),
+                failed.get()
+        );
+    }
+
+    List<DeductionJob> claim(int limit) {
+        Instant now = Instant.now();
+        List<DeductionJob> due = deductionJobRepository.lockDue(CLAIMABLE, now, PageRequest.of(0, limit));
+        for (DeductionJob job : due) {
+            job.setStatus(DeductionJobStatus.IN_PROGRESS);
+            job.setAttempts(job.getAttempts() + 1);
+            job.setNextAttemptAt(now.plus(lease));
+        }
+        return due;
+    }
+
+    private void submit(DeductionJob job) {
+        inFlight.incrementAndGet();
+        try {
+            deductionExecutor.execute(() -> {
+                try {
+                    execute(job.getRequestId());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.decrementAndGet();
+            log.warn("Deduction job {} not started, it will be reclaimed after its lease: {}", job.getRequestId(), ex.getMessage());
+        }
+    }
+
+    void execute(UUID requestId) {
+        ExternalDeductionClient.DeductionResult result;
+        Optional<VacationRequest> request = vacationRequestRepository.findApprovedUnprocessedById(requestId, VacationRequestStatus.APPROVED);
+        if (request.isEmpty()) {
+            result = ExternalDeductionClient.DeductionResult.failureResult("Request is no longer awaiting processing");
+        } else {
+            try {
+                result = externalDeductionClient.deduct(requestId, request.get().getUser().getId(), request.get().getNumberOfDays());
+            } catch (RuntimeException ex) {
+                result = ExternalDeductionClient.DeductionResult.unavailableResult(ex.getMessage());
+            }
+        }
+        ExternalDeductionClient.DeductionResult outcome = result;
+        try {
+            transactionTemplate.executeWithoutResult(status -> complete(requestId, outcome));
+        } catch (RuntimeException ex) {
+            log.error("Failed to record deduction outcome for request {}, it will be retried after its lease: {}",
+                    requestId, ex.getMessage());
+        }
+    }
+
+    void complete(UUID requestId, ExternalDeductionClient.DeductionResult result) {
+        Optional<DeductionJob> jobOptional = deductionJobRepository.findById(requestId);
+        if (jobOptional.isEmpty() || jobOptional.get().getStatus() != DeductionJobStatus.IN_PROGRESS) {
+            return;
+        }
+        DeductionJob job = jobOptional.get();
+        Optional<VacationRequest> requestOptional = vacationRequestRepository.findApprovedUnprocessedById(
+                requestId,
+                VacationRequestStatus.APPROVED
+        );
+        Instant now = Instant.now();
+        if (result.success()) {
+            job.setStatus(DeductionJobStatus.SUCCEEDED);
+            job.setCompletedAt(now);
+            job.setLastError(null);
+            requestOptional.ifPresent(request -> markProcessed(job, request, now));
+            succeeded.incrementAndGet();
+            return;
+        }
+
+        String reason = result.message() != null ? result.message() : "External deduction failed";
+        job.setLastError(reason);
+        if (result.unavailable() && job.getAttempts() < maxAttempts) {
+            job.setStatus(DeductionJobStatus.PENDING);
+            job.setNextAttemptAt(now.plus(retryBase.multipliedBy(1L << Math.min(job.getAttempts() - 1, 16))));
+            retried.incrementAndGet();
+            log.warn("Deduction for request {} failed on attempt {}, retrying at {}: {}",
+                    requestId, job.getAttempts(), job.getNextAttemptAt(), reason);
+            return;
+        }
+
+        job.setStatus(DeductionJobStatus.FAILED);
+        job.setCompletedAt(now);
+        failed.incrementAndGet();
+        if (requestOptional.isEmpty()) {
+            return;
+        }
+        VacationRequest request = requestOptional.get();
+        request.setExternalDeductionStatus(ExternalDeductionStatus.FAILED);
+        vacationRequestRepository.save(request);
+        auditService.recordProcessingFailure(job.getHrId(), request.getId(), request.getRequestCode(), reason);
+        if (result.unavailable()) {
+            eventPublisher.publishPostCommit("ExternalBalanceSystemUnavailable", Map.of(
+                    "employeeId", request.getUser().getId().toString(),
+                    "requestId", request.getId().toString()
+            ));
+        }
+    }
+
+    private void markProcessed(DeductionJob job, VacationRequest request, Instant processedAt) {
+        request.setHr(userRepository.getReferenceById(job.getHrId()));
+        request.setStatus(VacationRequestStatus.PROCESSED);
+        request.setProcessedAt(processedAt);
+        if (job.getHrNotes() != null) {
+            request.setHrNotes(job.getHrNotes());
+        }
+        request.setExternalDeductionStatus(ExternalDeductionStatus.SUCCESS);
+
+        VacationRequest saved = vacationRequestRepository.save(request);
+        balanceCache.invalidateAfterCommit(saved.getUser().getId());
+        eventPublisher.publishPostCommit("VacationProcessed", Map.of(
+                "requestId", saved.getId().toString(),
+                "requestCode", saved.getRequestCode(),
+                "employeeId", saved.getUser().getId().toString(),
+                "hrId", job.getHrId().toString(),
+                "startDate", saved.getStartDate().toString(),
+                "endDate", saved.getEndDate().toString(),
+                "requestedDays", saved.getNumberOfDays(),
+                "processedAt", saved.getProcessedAt().toString()
+        ));
+        auditService.recordProcessingSuccess(job.getHrId(), saved.getId(), saved.getRequestCode());
+    }
+
+    public record Stats(long pending,
+                        long inProgress,
+                        long failedJobs,
+                        int inFlight,
+                        long succeeded,
+                        long retried,
+                        long failed) {
+    }
+}
@@ -2,28 +2,41 @@ package com.company.service;
 
 import com.company.dto.AdminDtos.HolidayImportResponse;
 import com.company.integration.EventPublisher;
+import com.company.integration.OutboundHttpClients;
 import com.company.model.Holiday;
 import com.company.model.HolidayStatus;
 import com.company.model.IntegrationConfig;
 import com.company.model.IntegrationType;
+import com.company.repos.HolidayBatchRepository;
+import com.company.repos.HolidayBatchRepository.HolidayRow;
 import com.company.repos.HolidayRepository;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
@@ -36,26 +49,55 @@ public class HolidayImportService {
 
     private final IntegrationConfigService integrationConfigService;
     private final HolidayRepository holidayRepository;
+    private final HolidayBatchRepository holidayBatchRepository;
     private final EventPublisher eventPublisher;
     private final AuditService auditService;
     private final RestTemplate restTemplate;
+    private final WorkingDayIndex workingDayIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor holidayImportExecutor;
+    private final int maxYearsPerImport;
 
     public HolidayImportService(IntegrationConfigService integrationConfigService,
                                 HolidayRepository holidayRepository,
+                                HolidayBatchRepository holidayBatchRepository,
                                 EventPublisher eventPublisher,
                                 AuditService auditService,
-                                RestTemplateBuilder builder) {
+                                OutboundHttpClients outboundHttpClients,
+                                WorkingDayIndex workingDayIndex,
+                                PlatformTransactionManager transactionManager,
+                                @Qualifier("holidayImportExecutor") Executor holidayImportExecutor,
+                                @Value("${app.holidays.import.max-years:10}") int maxYearsPerImport) {
         this.integrationConfigService = integrationConfigService;
         this.holidayRepository = holidayRepository;
+        this.holidayBatchRepository = holidayBatchRepository;
         this.eventPublisher = eventPublisher;
         this.auditService = auditService;
-        this.restTemplate = builder
-                .setConnectTimeout(Duration.ofSeconds(10))
-                .setReadTimeout(Duration.ofSeconds(10))
-                .build();
+        this.workingDayIndex = workingDayIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.holidayImportExecutor = holidayImportExecutor;
+        this.maxYearsPerImport = maxYearsPerImport;
+        this.restTemplate = outboundHttpClients.restTemplate("holiday-api", Duration.ofSeconds(10), Duration.ofSeconds(10));
+    }
+
+    public List<HolidayImportResponse> importForYears(UUID actorId, List<Integer> years) {
+        Set<Integer> distinctYears = new LinkedHashSet<>(years);
+        if (distinctYears.isEmpty()) {
+            throw new IllegalArgumentException("years_required");
+        }
+        if (distinctYears.contains(null)) {
+            throw new IllegalArgumentException("invalid_year");
+        }
+        if (distinctYears.size() > maxYearsPerImport) {
+            throw new IllegalArgumentException("too_many_years");
+        }
+        List<CompletableFuture<HolidayImportResponse>> imports = new ArrayList<>(distinctYears.size());
+        for (Integer year : distinctYears) {
+            imports.add(CompletableFuture.supplyAsync(() -> importForYear(actorId, year), holidayImportExecutor));
+        }
+        return imports.stream().map(CompletableFuture::join).toList();
     }
 
-    @Transactional
     public HolidayImportResponse importForYear(UUID actorId, int year) {
         if (year < MIN_YEAR || year > MAX_YEAR) {
             auditService.recordHolidayImport(actorId, year, 0, 0, "failure");
@@ -88,8 +130,19 @@ public class HolidayImportService {
             return new HolidayImportResponse(year, 0, 0, "failure", "Unable to fetch holidays");
         }
 
+        try {
+            return transactionTemplate.execute(status -> applyImport(actorId, year, payloads));
+        } catch (RuntimeException ex) {
+            log.warn("Holiday import for {} failed to store: {}", year, ex.getMessage());
+            auditService.recordHolidayImport(actorId, year, 0, payloads.length, "failure");
+            return new HolidayImportResponse(year, 0, payloads.length, "failure", "Unable to store holidays");
+        }
+    }
+
+    private HolidayImportResponse applyImport(UUID actorId, int year, HolidayPayload[] payloads) {
         int imported = 0;
         int skipped = 0;
+        Map<HolidayKey, HolidayRow> rows = new LinkedHashMap<>();
         for (HolidayPayload payload : payloads) {
             if (payload == null || !StringUtils.hasText(payload.date()) || !StringUtils.hasText(payload.name())) {
                 skipped++;
@@ -102,14 +155,23 @@ public class HolidayImportService {
                 skipped++;
                 continue;
             }
-            try {
-                upsertHoliday(date, payload.name().trim());
-                imported++;
-            } catch (Exception ex) {
+            String name = payload.name().trim();
+            String regionCode = StringUtils.hasText(payload.region()) ? payload.region().trim().toUpperCase() : null;
+            if (rows.putIfAbsent(new HolidayKey(date, name, regionCode), new HolidayRow(date, name, regionCode)) != null) {
                 skipped++;
+                continue;
             }
+            imported++;
         }
 
+        List<HolidayRow> changed = changedRows(rows);
+        if (!changed.isEmpty()) {
+            holidayBatchRepository.upsertImported(changed);
+        }
+        Set<Integer> touchedYears = new HashSet<>();
+        changed.forEach(row -> touchedYears.add(row.date().getYear()));
+        workingDayIndex.invalidateAfterCommit(touchedYears);
+
         String outcome;
         if (imported == 0) {
             outcome = "failure";
@@ -132,6 +194,28 @@ public class HolidayImportService {
         return new HolidayImportResponse(year, imported, skipped, outcome, message);
     }
 
+    private List<HolidayRow> changedRows(Map<HolidayKey, HolidayRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        LocalDate from = rows.keySet().stream().map(HolidayKey::date).min(LocalDate::compareTo).orElseThrow();
+        LocalDate to = rows.keySet().stream().map(HolidayKey::date).max(LocalDate::compareTo).orElseThrow();
+        Map<HolidayKey, Holiday> existing = new HashMap<>();
+        holidayRepository.findAllInRange(from, to)
+                .forEach(holiday -> existing.put(
+                        new HolidayKey(holiday.getDate(), holiday.getName(), holiday.getRegionCode()), holiday));
+        List<HolidayRow> changed = new ArrayList<>();
+        rows.forEach((key, row) -> {
+            Holiday current = existing.get(key);
+            if (current == null
+                    || current.getStatus() != HolidayStatus.IMPORTED
+                    || current.getDeprecationReason() != null) {
+                changed.add(row);
+            }
+        });
+        return changed;
+    }
+
     private HolidayPayload[] fetchPayloads(String url, HttpEntity<Void> entity) {
         int attempts = 3;
         for (int attempt = 0; attempt < attempts; attempt++) {
@@ -153,20 +237,8 @@ public class HolidayImportService {
         return null;
     }
 
-    private void upsertHoliday(LocalDate date, String name) {
-        Optional<Holiday> existing = holidayRepository.findByDateAndName(date, name);
-        if (existing.isPresent()) {
-            Holiday holiday = existing.get();
-            holiday.setStatus(HolidayStatus.IMPORTED);
-            holiday.setDeprecationReason(null);
-            holidayRepository.save(holiday);
-            return;
-        }
-        Holiday holiday = new Holiday();
-        holiday.setDate(date);
-        holiday.setName(name);
-        holiday.setStatus(HolidayStatus.IMPORTED);
-        holidayRepository.save(holiday);
+    RestTemplate restTemplate() {
+        return restTemplate;
     }
 
     private void sleep(Duration duration) {
@@ -177,6 +249,9 @@ public class HolidayImportService {
         }
     }
 
-    record HolidayPayload(String date, String name) {
+    record HolidayPayload(String date, String name, String region) {
+    }
+
+    private record HolidayKey(LocalDate date, String name, String regionCode) {
     }
 }
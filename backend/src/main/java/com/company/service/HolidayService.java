@@ -19,13 +19,16 @@ public class HolidayService {
     private final HolidayRepository holidayRepository;
     private final EventPublisher eventPublisher;
     private final AuditService auditService;
+    private final WorkingDayIndex workingDayIndex;
 
     public HolidayService(HolidayRepository holidayRepository,
                           EventPublisher eventPublisher,
-                          AuditService auditService) {
+                          AuditService auditService,
+                          WorkingDayIndex workingDayIndex) {
         this.holidayRepository = holidayRepository;
         this.eventPublisher = eventPublisher;
         this.auditService = auditService;
+        this.workingDayIndex = workingDayIndex;
     }
 
     @Transactional(readOnly = true)
@@ -52,6 +55,7 @@ public class HolidayService {
             holiday.setDeprecationReason(reason.trim());
         }
         Holiday saved = holidayRepository.save(holiday);
+        workingDayIndex.invalidateAfterCommit(List.of(saved.getDate().getYear()));
         eventPublisher.publishPostCommit("HolidayDeprecated", Map.of(
                 "holidayId", saved.getId().toString(),
                 "date", saved.getDate().toString()
@@ -0,0 +1,30 @@
+package com.company.service;
+
+import java.util.List;
+import java.util.UUID;
+
+public record HrBulkProcessingResult(int requested,
+                                     int queued,
+                                     int failed,
+                                     List<Outcome> outcomes) {
+
+    public static HrBulkProcessingResult of(List<Outcome> outcomes) {
+        int queued = (int) outcomes.stream().filter(Outcome::success).count();
+        return new HrBulkProcessingResult(outcomes.size(), queued, outcomes.size() - queued, outcomes);
+    }
+
+    public record Outcome(UUID requestId,
+                          String requestCode,
+                          boolean success,
+                          String error,
+                          String message) {
+
+        public static Outcome queued(UUID requestId, String requestCode) {
+            return new Outcome(requestId, requestCode, true, null, null);
+        }
+
+        public static Outcome failure(UUID requestId, String requestCode, String error, String message) {
+            return new Outcome(requestId, requestCode, false, error, message);
+        }
+    }
+}
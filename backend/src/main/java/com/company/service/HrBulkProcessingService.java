@@ -0,0 +1,106 @@
+package com.company.service;
+
+import com.company.model.VacationRequest;
+import com.company.model.VacationRequestStatus;
+import com.company.repos.UserRepository;
+import com.company.repos.VacationRequestRepository;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class HrBulkProcessingService {
+    private static final Logger log = LoggerFactory.getLogger(HrBulkProcessingService.class);
+
+    private final VacationRequestRepository vacationRequestRepository;
+    private final UserRepository userRepository;
+    private final DeductionJobService deductionJobService;
+    private final AuditService auditService;
+    private final TransactionTemplate transactionTemplate;
+    private final int commitBatchSize;
+    private final int maxRequests;
+
+    public HrBulkProcessingService(VacationRequestRepository vacationRequestRepository,
+                                   UserRepository userRepository,
+                                   DeductionJobService deductionJobService,
+                                   AuditService auditService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.hr.bulk.commit-batch-size:50}") int commitBatchSize,
+                                   @Value("${app.hr.bulk.max-requests:500}") int maxRequests) {
+        this.vacationRequestRepository = vacationRequestRepository;
+        this.userRepository = userRepository;
+        this.deductionJobService = deductionJobService;
+        this.auditService = auditService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.commitBatchSize = Math.max(1, commitBatchSize);
+        this.maxRequests = maxRequests;
+    }
+
+    public int maxRequests() {
+        return maxRequests;
+    }
+
+    public HrBulkProcessingResult process(UUID hrId, List<UUID> requestIds, String hrNotes) {
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(requestIds));
+        Map<UUID, HrBulkProcessingResult.Outcome> outcomes = new HashMap<>();
+        if (userRepository.findById(hrId).isEmpty()) {
+            ids.forEach(id -> outcomes.put(id, HrBulkProcessingResult.Outcome.failure(id, null, "hr_not_found", "HR user not found")));
+            return toResult(ids, outcomes);
+        }
+        for (int from = 0; from < ids.size(); from += commitBatchSize) {
+            List<UUID> batch = ids.subList(from, Math.min(ids.size(), from + commitBatchSize));
+            outcomes.putAll(enqueueBatch(hrId, batch, hrNotes));
+        }
+        return toResult(ids, outcomes);
+    }
+
+    private Map<UUID, HrBulkProcessingResult.Outcome> enqueueBatch(UUID hrId, List<UUID> batch, String hrNotes) {
+        try {
+            return transactionTemplate.execute(status -> enqueue(hrId, batch, hrNotes));
+        } catch (RuntimeException ex) {
+            log.error("Failed to queue {} requests for deduction: {}", batch.size(), ex.getMessage());
+            Map<UUID, HrBulkProcessingResult.Outcome> failures = new HashMap<>();
+            batch.forEach(id -> failures.put(id, HrBulkProcessingResult.Outcome.failure(
+                    id, null, "enqueue_failed", "Request could not be queued, retry later")));
+            return failures;
+        }
+    }
+
+    private Map<UUID, HrBulkProcessingResult.Outcome> enqueue(UUID hrId, List<UUID> batch, String hrNotes) {
+        Map<UUID, VacationRequest> candidates = vacationRequestRepository
+                .findApprovedUnprocessedByIds(batch, VacationRequestStatus.APPROVED)
+                .stream()
+                .collect(Collectors.toMap(VacationRequest::getId, Function.identity()));
+        Map<UUID, HrBulkProcessingResult.Outcome> outcomes = new HashMap<>();
+        for (UUID id : batch) {
+            VacationRequest request = candidates.get(id);
+            if (request == null) {
+                outcomes.put(id, HrBulkProcessingResult.Outcome.failure(id, null, "not_found", "Request not found"));
+            } else {
+                outcomes.put(id, HrBulkProcessingResult.Outcome.queued(id, request.getRequestCode()));
+            }
+        }
+        if (candidates.isEmpty()) {
+            return outcomes;
+        }
+        deductionJobService.enqueue(candidates.values(), hrId, hrNotes);
+        vacationRequestRepository.saveAll(candidates.values());
+        candidates.values().forEach(request ->
+                auditService.recordProcessingAttempt(hrId, request.getId(), request.getRequestCode()));
+        return outcomes;
+    }
+
+    private HrBulkProcessingResult toResult(List<UUID> ids, Map<UUID, HrBulkProcessingResult.Outcome> outcomes) {
+        return HrBulkProcessingResult.of(ids.stream().map(outcomes::get).toList());
+    }
+}
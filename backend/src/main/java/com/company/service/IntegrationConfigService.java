@@ -2,6 +2,7 @@ package com.company.service;
 
 import com.company.dto.AdminDtos.IntegrationConfigDto;
 import com.company.dto.AdminDtos.IntegrationConfigRequest;
+import com.company.integration.ActiveIntegrationConfigs;
 import com.company.integration.EventPublisher;
 import com.company.model.IntegrationConfig;
 import com.company.model.IntegrationState;
@@ -21,13 +22,16 @@ public class IntegrationConfigService {
     private final IntegrationConfigRepository integrationConfigRepository;
     private final EventPublisher eventPublisher;
     private final AuditService auditService;
+    private final ActiveIntegrationConfigs activeIntegrationConfigs;
 
     public IntegrationConfigService(IntegrationConfigRepository integrationConfigRepository,
                                     EventPublisher eventPublisher,
-                                    AuditService auditService) {
+                                    AuditService auditService,
+                                    ActiveIntegrationConfigs activeIntegrationConfigs) {
         this.integrationConfigRepository = integrationConfigRepository;
         this.eventPublisher = eventPublisher;
         this.auditService = auditService;
+        this.activeIntegrationConfigs = activeIntegrationConfigs;
     }
 
     @Transactional(readOnly = true)
@@ -48,6 +52,7 @@ public class IntegrationConfigService {
             config.setAuthToken(request.authToken().trim());
         }
         IntegrationConfig saved = integrationConfigRepository.save(config);
+        activeIntegrationConfigs.refreshAfterCommit();
         publishConfiguredEvent(saved);
         auditService.recordIntegrationConfigured(actorId, saved.getId(), saved.getType().name(), saved.getEndpointUrl());
         return toDto(saved);
@@ -68,6 +73,7 @@ public class IntegrationConfigService {
             config.setAuthToken(request.authToken().trim());
         }
         IntegrationConfig saved = integrationConfigRepository.save(config);
+        activeIntegrationConfigs.refreshAfterCommit();
         publishConfiguredEvent(saved);
         auditService.recordIntegrationConfigured(actorId, saved.getId(), saved.getType().name(), saved.getEndpointUrl());
         return toDto(saved);
@@ -82,6 +88,7 @@ public class IntegrationConfigService {
         IntegrationConfig config = configOptional.get();
         config.setState(IntegrationState.DISABLED);
         IntegrationConfig saved = integrationConfigRepository.save(config);
+        activeIntegrationConfigs.refreshAfterCommit();
         eventPublisher.publishPostCommit("IntegrationDisabled", Map.of(
                 "id", saved.getId().toString(),
                 "type", saved.getType().name()
@@ -90,9 +97,8 @@ public class IntegrationConfigService {
         return toDto(saved);
     }
 
-    @Transactional(readOnly = true)
     public Optional<IntegrationConfig> findActive(IntegrationType type) {
-        return integrationConfigRepository.findFirstByTypeAndState(type, IntegrationState.CONFIGURED);
+        return activeIntegrationConfigs.find(type);
     }
 
     private void validate(IntegrationConfigRequest request) {
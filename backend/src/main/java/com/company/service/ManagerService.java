@@ -9,16 +9,12 @@ import com.company.integration.EventPublisher;
 import com.company.integration.VacationBalanceClient;
 import com.company.model.Holiday;
 import com.company.model.HolidayStatus;
-import com.company.model.TeamMembershipStatus;
-import com.company.model.TeamStatus;
 import com.company.model.VacationRequest;
 import com.company.model.VacationRequestStatus;
 import com.company.repos.HolidayRepository;
-import com.company.repos.TeamMembershipRepository;
 import com.company.repos.VacationRequestRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,23 +28,26 @@ public class ManagerService {
 
     private final VacationRequestRepository vacationRequestRepository;
     private final HolidayRepository holidayRepository;
-    private final TeamMembershipRepository teamMembershipRepository;
+    private final TeamVisibilityGraph teamVisibilityGraph;
     private final BalanceComputationService balanceComputationService;
+    private final BalanceCache balanceCache;
     private final VacationBalanceClient vacationBalanceClient;
     private final EventPublisher eventPublisher;
     private final AuditService auditService;
 
     public ManagerService(VacationRequestRepository vacationRequestRepository,
                           HolidayRepository holidayRepository,
-                          TeamMembershipRepository teamMembershipRepository,
+                          TeamVisibilityGraph teamVisibilityGraph,
                           BalanceComputationService balanceComputationService,
+                          BalanceCache balanceCache,
                           VacationBalanceClient vacationBalanceClient,
                           EventPublisher eventPublisher,
                           AuditService auditService) {
         this.vacationRequestRepository = vacationRequestRepository;
         this.holidayRepository = holidayRepository;
-        this.teamMembershipRepository = teamMembershipRepository;
+        this.teamVisibilityGraph = teamVisibilityGraph;
         this.balanceComputationService = balanceComputationService;
+        this.balanceCache = balanceCache;
         this.vacationBalanceClient = vacationBalanceClient;
         this.eventPublisher = eventPublisher;
         this.auditService = auditService;
@@ -56,25 +55,19 @@ public class ManagerService {
 
     public List<ManagerPendingItem> loadPendingRequests() {
         List<VacationRequest> pending = vacationRequestRepository.findByStatusWithUser(VacationRequestStatus.PENDING);
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, TentativeBalanceDto> balances = balanceComputationService.computeForManagerView(
+                pending.stream().map(vr -> vr.getUser().getId()).toList()
+        );
         return pending.stream()
-                .map(this::toPendingItem)
+                .map(vr -> toPendingItem(vr, balances.get(vr.getUser().getId())))
                 .toList();
     }
 
     public ManagerCalendarResponse loadCalendar(UUID managerId, LocalDate startDate, LocalDate endDate) {
-        List<UUID> teamIds = teamMembershipRepository.findActiveTeamIdsForUser(
-                managerId,
-                TeamMembershipStatus.ACTIVE,
-                TeamStatus.ACTIVE
-        );
-        if (teamIds.isEmpty()) {
-            return new ManagerCalendarResponse(List.of(), List.of());
-        }
-        List<UUID> teamUserIds = teamMembershipRepository.findActiveUserIdsForTeams(
-                teamIds,
-                TeamMembershipStatus.ACTIVE,
-                TeamStatus.ACTIVE
-        );
+        Set<UUID> teamUserIds = teamVisibilityGraph.visibleUserIds(managerId);
         if (teamUserIds.isEmpty()) {
             return new ManagerCalendarResponse(List.of(), List.of());
         }
@@ -146,6 +139,7 @@ public class ManagerService {
             request.setManagerNotes(note);
         }
         VacationRequest saved = vacationRequestRepository.save(request);
+        balanceCache.invalidateAfterCommit(saved.getUser().getId());
         eventPublisher.publishPostCommit("VacationApproved", Map.of(
                 "requestId", saved.getId().toString(),
                 "requestCode", saved.getRequestCode(),
@@ -186,7 +180,10 @@ public class ManagerService {
     }
 
     private ManagerPendingItem toPendingItem(VacationRequest request) {
-        TentativeBalanceDto balance = balanceComputationService.computeForManagerView(request.getUser().getId());
+        return toPendingItem(request, balanceComputationService.computeForManagerView(request.getUser().getId()));
+    }
+
+    private ManagerPendingItem toPendingItem(VacationRequest request, TentativeBalanceDto balance) {
         return new ManagerPendingItem(
                 request.getId(),
                 request.getUser().getId(),
@@ -200,24 +197,10 @@ public class ManagerService {
     }
 
     private List<DashboardResponse.VacationItem> loadOverlaps(VacationRequest request) {
-        List<UUID> teamIds = teamMembershipRepository.findActiveTeamIdsForUser(
-                request.getUser().getId(),
-                TeamMembershipStatus.ACTIVE,
-                TeamStatus.ACTIVE
-        );
-        if (teamIds.isEmpty()) {
-            return List.of();
-        }
-        List<UUID> teamUserIds = teamMembershipRepository.findActiveUserIdsForTeams(
-                teamIds,
-                TeamMembershipStatus.ACTIVE,
-                TeamStatus.ACTIVE
-        );
-        if (teamUserIds.isEmpty()) {
+        Set<UUID> targetUserIds = teamVisibilityGraph.visibleUserIds(request.getUser().getId());
+        if (targetUserIds.isEmpty()) {
             return List.of();
         }
-        Set<UUID> dedupedUserIds = Set.copyOf(teamUserIds);
-        Collection<UUID> targetUserIds = dedupedUserIds;
         List<VacationRequest> overlaps = vacationRequestRepository.findTeamVacations(
                 targetUserIds,
                 List.of(VacationRequestStatus.PENDING, VacationRequestStatus.APPROVED),
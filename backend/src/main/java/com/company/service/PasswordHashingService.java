@@ -0,0 +1,221 @@
+package com.company.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor passwordHashExecutor;
+    private final Duration waitTimeout;
+    private final int bcryptStrength;
+    private final Semaphore bulkPermits;
+    private final Timing queueWait = new Timing();
+    private final Timing hashing = new Timing();
+    private final AtomicLong encodes = new AtomicLong();
+    private final AtomicLong verifications = new AtomicLong();
+    private final AtomicLong rehashes = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashExecutor") Executor passwordHashExecutor,
+                                  @Value("${app.security.password-hash.wait-timeout:PT5S}") Duration waitTimeout,
+                                  @Value("${app.security.password-hash.bcrypt-strength:10}") int bcryptStrength,
+                                  @Value("${app.security.password-hash.bulk-permits:0}") int bulkPermits) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashExecutor = passwordHashExecutor;
+        this.waitTimeout = waitTimeout;
+        this.bcryptStrength = bcryptStrength;
+        // Bulk work gets at most half the pool by default, so interactive logins always find free threads and queue slots.
+        ThreadPoolExecutor pool = threadPool();
+        int defaultPermits = pool == null ? 1 : Math.max(1, pool.getMaximumPoolSize() / 2);
+        this.bulkPermits = new Semaphore(bulkPermits > 0 ? bulkPermits : defaultPermits);
+    }
+
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        encodes.incrementAndGet();
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return await(encodeAsync(rawPassword));
+    }
+
+    public List<String> encodeAll(List<String> rawPasswords) {
+        List<CompletableFuture<String>> hashes = new ArrayList<>(rawPasswords.size());
+        try {
+            for (String rawPassword : rawPasswords) {
+                acquireBulkPermit();
+                CompletableFuture<String> hash = encodeAsync(rawPassword);
+                hash.whenComplete((value, ex) -> bulkPermits.release());
+                hashes.add(hash);
+            }
+            return hashes.stream().map(this::await).toList();
+        } catch (RuntimeException ex) {
+            hashes.forEach(hash -> hash.cancel(false));
+            throw ex;
+        }
+    }
+
+    public Verification verify(String rawPassword, String encodedPassword) {
+        verifications.incrementAndGet();
+        return await(submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return new Verification(true, null);
+            }
+            rehashes.incrementAndGet();
+            return new Verification(true, passwordEncoder.encode(rawPassword));
+        }));
+    }
+
+    public Stats stats() {
+        ThreadPoolExecutor pool = threadPool();
+        return new Stats(
+                bcryptStrength,
+                pool == null ? 0 : pool.getMaximumPoolSize(),
+                pool == null ? 0 : pool.getActiveCount(),
+                pool == null ? 0 : pool.getQueue().size(),
+                encodes.get(),
+                verifications.get(),
+                rehashes.get(),
+                rejected.get(),
+                timedOut.get(),
+                skipped.get(),
+                queueWait.averageMillis(),
+                queueWait.maxMillis(),
+                hashing.averageMillis(),
+                hashing.maxMillis()
+        );
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        try {
+            passwordHashExecutor.execute(() -> {
+                if (future.isDone()) {
+                    skipped.incrementAndGet();
+                    return;
+                }
+                long started = System.nanoTime();
+                queueWait.record(started - submitted);
+                try {
+                    future.complete(work.get());
+                } catch (RuntimeException ex) {
+                    future.completeExceptionally(ex);
+                } finally {
+                    hashing.record(System.nanoTime() - started);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.incrementAndGet();
+            future.completeExceptionally(new HashingUnavailableException());
+        }
+        return future;
+    }
+
+    private void acquireBulkPermit() {
+        try {
+            if (!bulkPermits.tryAcquire(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                timedOut.incrementAndGet();
+                throw new HashingUnavailableException();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new HashingUnavailableException();
+        }
+    }
+
+    private ThreadPoolExecutor threadPool() {
+        return passwordHashExecutor instanceof ThreadPoolTaskExecutor taskExecutor
+                ? taskExecutor.getThreadPoolExecutor()
+                : null;
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            timedOut.incrementAndGet();
+            future.cancel(false);
+            throw new HashingUnavailableException();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new HashingUnavailableException();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    public record Verification(boolean matched, String upgradedHash) {
+    }
+
+    public record Stats(int bcryptStrength,
+                        int poolSize,
+                        int active,
+                        int queued,
+                        long encodes,
+                        long verifications,
+                        long rehashes,
+                        long rejected,
+                        long timedOut,
+                        long skipped,
+                        double avgQueueWaitMillis,
+                        long maxQueueWaitMillis,
+                        double avgHashMillis,
+                        long maxHashMillis) {
+    }
+
+    public static class HashingUnavailableException extends IllegalStateException {
+        public HashingUnavailableException() {
+            super("password_hashing_busy");
+        }
+    }
+
+    private static final class Timing {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        double averageMillis() {
+            long samples = count.get();
+            return samples == 0 ? 0.0 : totalNanos.get() / 1_000_000.0 / samples;
+        }
+
+        long maxMillis() {
+            return maxNanos.get() / 1_000_000;
+        }
+    }
+}
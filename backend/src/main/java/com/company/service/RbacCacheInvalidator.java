@@ -1,24 +1,61 @@
 package com.company.service;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 public class RbacCacheInvalidator {
     private static final Logger log = LoggerFactory.getLogger(RbacCacheInvalidator.class);
 
+    private final TeamVisibilityGraph teamVisibilityGraph;
+    private final AuthorizationEpochSync authorizationEpochSync;
+
+    public RbacCacheInvalidator(TeamVisibilityGraph teamVisibilityGraph,
+                                AuthorizationEpochSync authorizationEpochSync) {
+        this.teamVisibilityGraph = teamVisibilityGraph;
+        this.authorizationEpochSync = authorizationEpochSync;
+    }
+
     public void invalidateForUser(UUID userId) {
         if (userId != null) {
             log.info("Invalidating RBAC cache for user {}", userId);
+            authorizationEpochSync.recordChange(userId);
+            afterCommit(() -> teamVisibilityGraph.refreshUsers(List.of(userId)));
         }
     }
 
     public void invalidateForTeams(Collection<UUID> teamIds) {
         if (teamIds != null && !teamIds.isEmpty()) {
             log.info("Invalidating team visibility caches for teams {}", teamIds);
+            List<UUID> affected = List.copyOf(teamIds);
+            afterCommit(() -> teamVisibilityGraph.refreshTeams(affected));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refreshSafely(action);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refreshSafely(action);
+            }
+        });
+    }
+
+    private void refreshSafely(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException ex) {
+            log.warn("Team visibility refresh failed, graph will catch up on the next full reload: {}", ex.getMessage());
         }
     }
 }
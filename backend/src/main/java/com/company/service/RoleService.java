@@ -1,11 +1,10 @@
 package com.company.service;
 
 import com.company.model.Role;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -13,8 +12,12 @@ public class RoleService {
     private static final List<String> ROLE_PRIORITY = List.of("ADMIN", "HR", "MANAGER", "EMPLOYEE");
 
     public List<String> toRoleCodes(Set<Role> roles) {
-        return roles.stream()
-                .map(role -> role.getCode().toUpperCase())
+        return normalizeRoleCodes(roles.stream().map(Role::getCode).toList());
+    }
+
+    public List<String> normalizeRoleCodes(Collection<String> codes) {
+        return codes.stream()
+                .map(String::toUpperCase)
                 .distinct()
                 .sorted(Comparator.comparingInt(this::priorityForCode))
                 .toList();
@@ -25,25 +28,20 @@ public class RoleService {
     }
 
     public String resolveHomeRoute(Set<Role> roles) {
-        List<String> codes = new ArrayList<>(toRoleCodes(roles));
-        if (codes.isEmpty()) {
+        return resolveHomeRouteFromCodes(toRoleCodes(roles));
+    }
+
+    public String resolveHomeRouteFromCodes(Collection<String> codes) {
+        List<String> normalizedCodes = normalizeRoleCodes(codes);
+        if (normalizedCodes.isEmpty()) {
             return "/";
         }
-        if (codes.contains("HR")) {
+        if (normalizedCodes.contains("HR")) {
             return "/hr/processing";
         }
         return "/calendar";
     }
 
-    public String resolveHomeRouteFromCodes(List<String> codes) {
-        Set<Role> roles = codes.stream().map(code -> {
-            Role role = new Role();
-            role.setCode(code);
-            return role;
-        }).collect(Collectors.toSet());
-        return resolveHomeRoute(roles);
-    }
-
     private int priorityForCode(String code) {
         int index = ROLE_PRIORITY.indexOf(code);
         return index >= 0 ? index : Integer.MAX_VALUE;
@@ -0,0 +1,30 @@
+package com.company.service;
+
+import com.company.model.User;
+import com.company.model.UserStatus;
+import com.company.repos.UserRepository;
+import jakarta.servlet.http.HttpSession;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SessionRefreshService {
+
+    private final UserRepository userRepository;
+    private final SessionService sessionService;
+
+    public SessionRefreshService(UserRepository userRepository, SessionService sessionService) {
+        this.userRepository = userRepository;
+        this.sessionService = sessionService;
+    }
+
+    public boolean refresh(HttpSession session, UUID userId) {
+        Optional<User> user = userRepository.findById(userId);
+        if (user.isEmpty() || user.get().getStatus() != UserStatus.ACTIVE) {
+            return false;
+        }
+        sessionService.establishSession(session, user.get());
+        return true;
+    }
+}
@@ -1,8 +1,11 @@
 package com.company.service;
 
+import com.company.model.Role;
 import com.company.model.User;
+import com.company.security.RoleMask;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -13,6 +16,9 @@ import org.springframework.stereotype.Service;
 public class SessionService {
     public static final String ATTR_USER_ID = "userId";
     public static final String ATTR_ROLES = "roles";
+    public static final String ATTR_ROLE_MASK = "roleMask";
+    public static final String ATTR_REGION = "region";
+    public static final String ATTR_AUTHORIZED_AT = "authorizedAt";
     private static final String COOKIE_NAME = "SESSIONID";
 
     private final RoleService roleService;
@@ -30,8 +36,19 @@ public class SessionService {
     }
 
     public void establishSession(HttpSession session, User user) {
-        session.setAttribute(ATTR_USER_ID, user.getId());
-        session.setAttribute(ATTR_ROLES, roleService.toRoleCodes(user.getRoles()));
+        List<String> roleCodes = user.getRoles().stream().map(Role::getCode).toList();
+        establishSession(session, user.getId(), roleCodes, user.getRegionCode());
+    }
+
+    public void establishSession(HttpSession session, UUID userId, Collection<String> roleCodes, String regionCode) {
+        List<String> normalizedCodes = roleService.normalizeRoleCodes(roleCodes);
+        session.setAttribute(ATTR_USER_ID, userId);
+        session.setAttribute(ATTR_ROLES, normalizedCodes);
+        session.setAttribute(ATTR_ROLE_MASK, RoleMask.of(normalizedCodes));
+        session.setAttribute(ATTR_AUTHORIZED_AT, System.currentTimeMillis());
+        if (regionCode != null) {
+            session.setAttribute(ATTR_REGION, regionCode);
+        }
     }
 
     public List<String> getRoles(HttpSession session) {
@@ -42,6 +59,27 @@ public class SessionService {
         return Collections.emptyList();
     }
 
+    public int getRoleMask(HttpSession session) {
+        Object attr = session.getAttribute(ATTR_ROLE_MASK);
+        if (attr instanceof Integer mask) {
+            return mask;
+        }
+        Object roles = session.getAttribute(ATTR_ROLES);
+        if (roles instanceof List<?> list) {
+            int mask = list.isEmpty() ? RoleMask.NONE : RoleMask.AUTHENTICATED;
+            for (Object code : list) {
+                mask |= RoleMask.bitFor(String.valueOf(code));
+            }
+            return mask;
+        }
+        return RoleMask.NONE;
+    }
+
+    public long getAuthorizedAt(HttpSession session) {
+        Object attr = session.getAttribute(ATTR_AUTHORIZED_AT);
+        return attr instanceof Long authorizedAt ? authorizedAt : 0L;
+    }
+
     public UUID getUserId(HttpSession session) {
         Object attr = session.getAttribute(ATTR_USER_ID);
         if (attr instanceof UUID uuid) {
@@ -50,6 +88,14 @@ public class SessionService {
         return null;
     }
 
+    public String getRegion(HttpSession session) {
+        if (session == null) {
+            return null;
+        }
+        Object attr = session.getAttribute(ATTR_REGION);
+        return attr instanceof String region ? region : null;
+    }
+
     public void invalidateSession(HttpServletRequest request) {
         HttpSession session = request.getSession(false);
         if (session != null) {
@@ -0,0 +1,184 @@
+package com.company.service;
+
+import com.company.model.TeamMembershipStatus;
+import com.company.model.TeamStatus;
+import com.company.repos.TeamMembershipRepository;
+import com.company.repos.TeamMembershipRepository.MembershipPair;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TeamVisibilityGraph {
+    private static final Logger log = LoggerFactory.getLogger(TeamVisibilityGraph.class);
+
+    private final TeamMembershipRepository teamMembershipRepository;
+    // Not synchronized: refreshes run JDBC on request threads and must not pin virtual-thread carriers.
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Graph snapshot;
+
+    public TeamVisibilityGraph(TeamMembershipRepository teamMembershipRepository) {
+        this.teamMembershipRepository = teamMembershipRepository;
+    }
+
+    public Set<UUID> teamIdsOf(UUID userId) {
+        return current().teamsByUser().getOrDefault(userId, Set.of());
+    }
+
+    public Set<UUID> visibleUserIds(UUID userId) {
+        Graph graph = current();
+        Set<UUID> teamIds = graph.teamsByUser().getOrDefault(userId, Set.of());
+        if (teamIds.isEmpty()) {
+            return Set.of();
+        }
+        if (teamIds.size() == 1) {
+            return graph.membersByTeam().getOrDefault(teamIds.iterator().next(), Set.of());
+        }
+        Set<UUID> visible = new HashSet<>();
+        teamIds.forEach(teamId -> visible.addAll(graph.membersByTeam().getOrDefault(teamId, Set.of())));
+        return visible;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        scheduledRefresh();
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.rbac.visibility-refresh-ms:300000}",
+            fixedDelayString = "${app.rbac.visibility-refresh-ms:300000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            reload();
+        } catch (RuntimeException ex) {
+            log.warn("Team visibility refresh failed, keeping previous graph: {}", ex.getMessage());
+        }
+    }
+
+    public Graph reload() {
+        lock.lock();
+        try {
+            List<MembershipPair> pairs = teamMembershipRepository.findAllActivePairs(
+                    TeamMembershipStatus.ACTIVE,
+                    TeamStatus.ACTIVE
+            );
+            Map<UUID, Set<UUID>> teamsByUser = new HashMap<>();
+            Map<UUID, Set<UUID>> membersByTeam = new HashMap<>();
+            for (MembershipPair pair : pairs) {
+                teamsByUser.computeIfAbsent(pair.getUserId(), id -> new HashSet<>()).add(pair.getTeamId());
+                membersByTeam.computeIfAbsent(pair.getTeamId(), id -> new HashSet<>()).add(pair.getUserId());
+            }
+            Graph graph = Graph.freeze(teamsByUser, membersByTeam);
+            snapshot = graph;
+            return graph;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void refreshUsers(Collection<UUID> userIds) {
+        lock.lock();
+        try {
+            Graph graph = snapshot;
+            if (graph == null || userIds.isEmpty()) {
+                return;
+            }
+            Map<UUID, Set<UUID>> loaded = new HashMap<>();
+            teamMembershipRepository.findActivePairsForUsers(userIds, TeamMembershipStatus.ACTIVE, TeamStatus.ACTIVE)
+                    .forEach(pair -> loaded.computeIfAbsent(pair.getUserId(), id -> new HashSet<>()).add(pair.getTeamId()));
+            Map<UUID, Set<UUID>> teamsByUser = new HashMap<>(graph.teamsByUser());
+            Map<UUID, Set<UUID>> membersByTeam = new HashMap<>(graph.membersByTeam());
+            for (UUID userId : userIds) {
+                Set<UUID> previous = graph.teamsByUser().getOrDefault(userId, Set.of());
+                Set<UUID> updated = loaded.getOrDefault(userId, Set.of());
+                replace(teamsByUser, userId, updated);
+                previous.stream().filter(teamId -> !updated.contains(teamId))
+                        .forEach(teamId -> unlink(membersByTeam, teamId, userId));
+                updated.stream().filter(teamId -> !previous.contains(teamId))
+                        .forEach(teamId -> link(membersByTeam, teamId, userId));
+            }
+            snapshot = new Graph(teamsByUser, membersByTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void refreshTeams(Collection<UUID> teamIds) {
+        lock.lock();
+        try {
+            Graph graph = snapshot;
+            if (graph == null || teamIds.isEmpty()) {
+                return;
+            }
+            Map<UUID, Set<UUID>> loaded = new HashMap<>();
+            teamMembershipRepository.findActivePairsForTeams(teamIds, TeamMembershipStatus.ACTIVE, TeamStatus.ACTIVE)
+                    .forEach(pair -> loaded.computeIfAbsent(pair.getTeamId(), id -> new HashSet<>()).add(pair.getUserId()));
+            Map<UUID, Set<UUID>> teamsByUser = new HashMap<>(graph.teamsByUser());
+            Map<UUID, Set<UUID>> membersByTeam = new HashMap<>(graph.membersByTeam());
+            for (UUID teamId : teamIds) {
+                Set<UUID> previous = graph.membersByTeam().getOrDefault(teamId, Set.of());
+                Set<UUID> updated = loaded.getOrDefault(teamId, Set.of());
+                replace(membersByTeam, teamId, updated);
+                previous.stream().filter(userId -> !updated.contains(userId))
+                        .forEach(userId -> unlink(teamsByUser, userId, teamId));
+                updated.stream().filter(userId -> !previous.contains(userId))
+                        .forEach(userId -> link(teamsByUser, userId, teamId));
+            }
+            snapshot = new Graph(teamsByUser, membersByTeam);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Graph current() {
+        Graph graph = snapshot;
+        return graph != null ? graph : reload();
+    }
+
+    private static void replace(Map<UUID, Set<UUID>> map, UUID key, Set<UUID> values) {
+        if (values.isEmpty()) {
+            map.remove(key);
+        } else {
+            map.put(key, Set.copyOf(values));
+        }
+    }
+
+    private static void link(Map<UUID, Set<UUID>> map, UUID key, UUID value) {
+        Set<UUID> values = new HashSet<>(map.getOrDefault(key, Set.of()));
+        values.add(value);
+        map.put(key, Set.copyOf(values));
+    }
+
+    private static void unlink(Map<UUID, Set<UUID>> map, UUID key, UUID value) {
+        Set<UUID> values = new HashSet<>(map.getOrDefault(key, Set.of()));
+        values.remove(value);
+        replace(map, key, values);
+    }
+
+    public record Graph(Map<UUID, Set<UUID>> teamsByUser, Map<UUID, Set<UUID>> membersByTeam) {
+        public Graph {
+            teamsByUser = Map.copyOf(teamsByUser);
+            membersByTeam = Map.copyOf(membersByTeam);
+        }
+
+        static Graph freeze(Map<UUID, Set<UUID>> teamsByUser, Map<UUID, Set<UUID>> membersByTeam) {
+            Map<UUID, Set<UUID>> users = new HashMap<>();
+            teamsByUser.forEach((userId, teamIds) -> users.put(userId, Set.copyOf(teamIds)));
+            Map<UUID, Set<UUID>> teams = new HashMap<>();
+            membersByTeam.forEach((teamId, userIds) -> teams.put(teamId, Set.copyOf(userIds)));
+            return new Graph(users, teams);
+        }
+    }
+}
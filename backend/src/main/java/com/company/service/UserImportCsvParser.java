@@ -0,0 +1,100 @@
+package com.company.service;
+
+import com.company.dto.AdminDtos.UserImportRow;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class UserImportCsvParser {
+
+    private UserImportCsvParser() {
+    }
+
+    static List<UserImportRow> parse(Reader source, int maxRows) throws IOException {
+        BufferedReader reader = new BufferedReader(source);
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            return List.of();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> header = splitLine(headerLine);
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase().replace("_", ""), i);
+        }
+        if (!columns.containsKey("username")) {
+            throw new IllegalArgumentException("invalid_csv_header");
+        }
+        List<UserImportRow> rows = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (rows.size() == maxRows) {
+                throw new IllegalArgumentException("too_many_rows");
+            }
+            List<String> values = splitLine(line);
+            rows.add(new UserImportRow(
+                    value(values, columns, "username"),
+                    value(values, columns, "displayname"),
+                    value(values, columns, "password"),
+                    value(values, columns, "status"),
+                    list(value(values, columns, "roles")),
+                    list(value(values, columns, "teams"))
+            ));
+        }
+        return rows;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> list(String value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(";"))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    private static List<String> splitLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,295 @@
+package com.company.service;
+
+import com.company.dto.AdminDtos.UserImportError;
+import com.company.dto.AdminDtos.UserImportResult;
+import com.company.dto.AdminDtos.UserImportRow;
+import com.company.integration.EventPublisher;
+import com.company.model.Role;
+import com.company.model.Team;
+import com.company.model.TeamStatus;
+import com.company.model.UserStatus;
+import com.company.repos.RoleRepository;
+import com.company.repos.TeamRepository;
+import com.company.repos.UserImportBatchRepository;
+import com.company.repos.UserImportBatchRepository.MembershipRow;
+import com.company.repos.UserImportBatchRepository.UserRoleRow;
+import com.company.repos.UserImportBatchRepository.UserRow;
+import com.company.repos.UserRepository;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+@Service
+public class UserImportService {
+    private static final Logger log = LoggerFactory.getLogger(UserImportService.class);
+    private static final int MAX_USERNAME_LENGTH = 120;
+    private static final int MAX_DISPLAY_NAME_LENGTH = 140;
+    private static final int MAX_PASSWORD_BYTES = 72;
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final TeamRepository teamRepository;
+    private final UserImportBatchRepository userImportBatchRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final EventPublisher eventPublisher;
+    private final AuditService auditService;
+    private final RbacCacheInvalidator rbacCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxRows;
+
+    public UserImportService(UserRepository userRepository,
+                             RoleRepository roleRepository,
+                             TeamRepository teamRepository,
+                             UserImportBatchRepository userImportBatchRepository,
+                             PasswordHashingService passwordHashingService,
+                             EventPublisher eventPublisher,
+                             AuditService auditService,
+                             RbacCacheInvalidator rbacCacheInvalidator,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.admin.import.batch-size:500}") int batchSize,
+                             @Value("${app.admin.import.max-rows:10000}") int maxRows) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.teamRepository = teamRepository;
+        this.userImportBatchRepository = userImportBatchRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.eventPublisher = eventPublisher;
+        this.auditService = auditService;
+        this.rbacCacheInvalidator = rbacCacheInvalidator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxRows = maxRows;
+    }
+
+    public UserImportResult importCsv(UUID actorId, Reader csv) throws IOException {
+        return importRows(actorId, UserImportCsvParser.parse(csv, maxRows));
+    }
+
+    public UserImportResult importRows(UUID actorId, List<UserImportRow> rows) {
+        if (rows.size() > maxRows) {
+            throw new IllegalArgumentException("too_many_rows");
+        }
+        Map<String, Role> rolesByCode = new HashMap<>();
+        roleRepository.findAll().forEach(role -> rolesByCode.put(role.getCode().toUpperCase(), role));
+        Map<String, Team> teamsByKey = new HashMap<>();
+        Set<String> ambiguousTeamNames = new HashSet<>();
+        teamRepository.findAll().forEach(team -> {
+            teamsByKey.put(team.getId().toString(), team);
+            String name = team.getName().trim().toLowerCase();
+            if (teamsByKey.putIfAbsent(name, team) != null) {
+                ambiguousTeamNames.add(name);
+            }
+        });
+        Set<String> requestedUsernames = new HashSet<>();
+        rows.forEach(row -> {
+            if (row != null && StringUtils.hasText(row.username())) {
+                requestedUsernames.add(row.username().trim().toLowerCase());
+            }
+        });
+        Set<String> takenUsernames = requestedUsernames.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(userRepository.findExistingUsernames(requestedUsernames));
+
+        List<UserImportError> errors = new ArrayList<>();
+        List<ValidRow> valid = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            int rowNumber = i + 1;
+            UserImportRow row = rows.get(i);
+            try {
+                ValidRow validRow = validate(rowNumber, row, rolesByCode, teamsByKey, ambiguousTeamNames);
+                if (!takenUsernames.add(validRow.username().toLowerCase())) {
+                    throw new IllegalArgumentException("username_exists");
+                }
+                valid.add(validRow);
+            } catch (IllegalArgumentException ex) {
+                errors.add(new UserImportError(rowNumber, row != null ? row.username() : null, ex.getMessage()));
+            }
+        }
+
+        int imported = 0;
+        for (int from = 0; from < valid.size(); from += batchSize) {
+            int to = Math.min(valid.size(), from + batchSize);
+            List<ValidRow> batch = valid.subList(from, to);
+            List<String> batchHashes;
+            try {
+                batchHashes = passwordHashingService.encodeAll(batch.stream().map(ValidRow::password).toList());
+            } catch (PasswordHashingService.HashingUnavailableException ex) {
+                batch.forEach(row -> errors.add(new UserImportError(row.rowNumber(), row.username(), ex.getMessage())));
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertBatch(actorId, batch, batchHashes));
+                imported += batch.size();
+            } catch (RuntimeException ex) {
+                log.warn("User import batch of {} rows failed, retrying row by row: {}", batch.size(), ex.getMessage());
+                imported += insertRowByRow(actorId, batch, batchHashes, errors);
+            }
+        }
+        errors.sort(Comparator.comparingInt(UserImportError::row));
+        return new UserImportResult(rows.size(), imported, rows.size() - imported, errors);
+    }
+
+    private int insertRowByRow(UUID actorId, List<ValidRow> batch, List<String> passwordHashes, List<UserImportError> errors) {
+        int imported = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            List<ValidRow> single = List.of(batch.get(i));
+            List<String> hash = List.of(passwordHashes.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertBatch(actorId, single, hash));
+                imported++;
+            } catch (DuplicateKeyException ex) {
+                errors.add(new UserImportError(single.get(0).rowNumber(), single.get(0).username(), "username_exists"));
+            } catch (RuntimeException ex) {
+                log.warn("User import of row {} failed: {}", single.get(0).rowNumber(), ex.getMessage());
+                errors.add(new UserImportError(single.get(0).rowNumber(), single.get(0).username(), "insert_failed"));
+            }
+        }
+        return imported;
+    }
+
+    private ValidRow validate(int rowNumber,
+                              UserImportRow row,
+                              Map<String, Role> rolesByCode,
+                              Map<String, Team> teamsByKey,
+                              Set<String> ambiguousTeamNames) {
+        if (row == null || !StringUtils.hasText(row.username())) {
+            throw new IllegalArgumentException("username_required");
+        }
+        if (row.username().trim().length() > MAX_USERNAME_LENGTH) {
+            throw new IllegalArgumentException("username_too_long");
+        }
+        if (!StringUtils.hasText(row.displayName())) {
+            throw new IllegalArgumentException("display_name_required");
+        }
+        if (row.displayName().trim().length() > MAX_DISPLAY_NAME_LENGTH) {
+            throw new IllegalArgumentException("display_name_too_long");
+        }
+        if (!StringUtils.hasText(row.password())) {
+            throw new IllegalArgumentException("password_required");
+        }
+        if (row.password().getBytes(StandardCharsets.UTF_8).length > MAX_PASSWORD_BYTES) {
+            throw new IllegalArgumentException("password_too_long");
+        }
+        UserStatus status = UserStatus.ACTIVE;
+        if (StringUtils.hasText(row.status())) {
+            try {
+                status = UserStatus.valueOf(row.status().trim().toUpperCase());
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("invalid_status");
+            }
+        }
+        Set<UUID> roleIds = new LinkedHashSet<>();
+        if (row.roles() != null) {
+            for (String code : row.roles()) {
+                if (!StringUtils.hasText(code)) {
+                    continue;
+                }
+                Role role = rolesByCode.get(code.trim().toUpperCase());
+                if (role == null) {
+                    throw new IllegalArgumentException("role_not_found");
+                }
+                roleIds.add(role.getId());
+            }
+        }
+        if (roleIds.isEmpty()) {
+            throw new IllegalArgumentException("roles_required");
+        }
+        Set<UUID> teamIds = new LinkedHashSet<>();
+        if (row.teams() != null) {
+            for (String key : row.teams()) {
+                if (!StringUtils.hasText(key)) {
+                    continue;
+                }
+                String teamKey = key.trim().toLowerCase();
+                if (ambiguousTeamNames.contains(teamKey)) {
+                    throw new IllegalArgumentException("team_ambiguous");
+                }
+                Team team = teamsByKey.get(teamKey);
+                if (team == null) {
+                    throw new IllegalArgumentException("team_not_found");
+                }
+                if (team.getStatus() == TeamStatus.ARCHIVED) {
+                    throw new IllegalArgumentException("team_archived");
+                }
+                teamIds.add(team.getId());
+            }
+        }
+        return new ValidRow(rowNumber, row.username().trim(), row.displayName().trim(), row.password(), status,
+                List.copyOf(roleIds), List.copyOf(teamIds));
+    }
+
+    private void insertBatch(UUID actorId, List<ValidRow> batch, List<String> passwordHashes) {
+        Instant now = Instant.now();
+        List<UserRow> users = new ArrayList<>(batch.size());
+        List<UserRoleRow> userRoles = new ArrayList<>();
+        List<MembershipRow> memberships = new ArrayList<>();
+        Map<UUID, String> usernamesById = new LinkedHashMap<>();
+        Map<UUID, List<UUID>> teamIdsByUser = new LinkedHashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ValidRow row = batch.get(i);
+            UUID userId = UUID.randomUUID();
+            users.add(new UserRow(userId, row.username(), passwordHashes.get(i), row.displayName(), row.status().name(), now));
+            row.roleIds().forEach(roleId -> userRoles.add(new UserRoleRow(userId, roleId)));
+            row.teamIds().forEach(teamId -> memberships.add(new MembershipRow(userId, teamId)));
+            usernamesById.put(userId, row.username());
+            if (!row.teamIds().isEmpty()) {
+                teamIdsByUser.put(userId, row.teamIds());
+            }
+        }
+        userImportBatchRepository.insertUsers(users);
+        userImportBatchRepository.insertUserRoles(userRoles);
+        if (!memberships.isEmpty()) {
+            userImportBatchRepository.insertMemberships(memberships, now);
+        }
+
+        List<Map<String, Object>> invited = new ArrayList<>(usernamesById.size());
+        usernamesById.forEach((userId, username) -> invited.add(Map.of(
+                "userId", userId.toString(),
+                "username", username
+        )));
+        eventPublisher.publishAllPostCommit("UserInvited", invited);
+        List<Map<String, Object>> added = new ArrayList<>(memberships.size());
+        memberships.forEach(membership -> added.add(Map.of(
+                "userId", membership.userId().toString(),
+                "teamId", membership.teamId().toString()
+        )));
+        eventPublisher.publishAllPostCommit("TeamMembershipAdded", added);
+
+        auditService.recordUserInvites(actorId, usernamesById);
+        auditService.recordTeamMembershipsAdded(actorId, teamIdsByUser);
+        Set<UUID> touchedTeams = new HashSet<>();
+        memberships.forEach(membership -> touchedTeams.add(membership.teamId()));
+        if (!touchedTeams.isEmpty()) {
+            rbacCacheInvalidator.invalidateForTeams(touchedTeams);
+        }
+    }
+
+    private record ValidRow(int rowNumber,
+                            String username,
+                            String displayName,
+                            String password,
+                            UserStatus status,
+                            List<UUID> roleIds,
+                            List<UUID> teamIds) {
+    }
+}
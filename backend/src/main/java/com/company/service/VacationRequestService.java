@@ -28,24 +28,27 @@ public class VacationRequestService {
     private final UserRepository userRepository;
     private final DayCountService dayCountService;
     private final VacationBalanceClient vacationBalanceClient;
-    private final BalanceSessionCache balanceSessionCache;
+    private final BalanceCache balanceCache;
     private final EventPublisher eventPublisher;
     private final AuditService auditService;
+    private final SessionService sessionService;
 
     public VacationRequestService(VacationRequestRepository vacationRequestRepository,
                                   UserRepository userRepository,
                                   DayCountService dayCountService,
                                   VacationBalanceClient vacationBalanceClient,
-                                  BalanceSessionCache balanceSessionCache,
+                                  BalanceCache balanceCache,
                                   EventPublisher eventPublisher,
-                                  AuditService auditService) {
+                                  AuditService auditService,
+                                  SessionService sessionService) {
         this.vacationRequestRepository = vacationRequestRepository;
         this.userRepository = userRepository;
         this.dayCountService = dayCountService;
         this.vacationBalanceClient = vacationBalanceClient;
-        this.balanceSessionCache = balanceSessionCache;
+        this.balanceCache = balanceCache;
         this.eventPublisher = eventPublisher;
         this.auditService = auditService;
+        this.sessionService = sessionService;
     }
 
     @Transactional
@@ -53,14 +56,13 @@ public class VacationRequestService {
         validateDates(startDate, endDate);
         validateMinimumNotice(startDate);
 
-        long numberOfDays = dayCountService.computeNumberOfDays(startDate, endDate);
+        long numberOfDays = dayCountService.computeNumberOfDays(sessionService.getRegion(session), startDate, endDate);
         if (numberOfDays <= 0) {
             return VacationSubmissionResult.failure("invalid_range", "No working days in selected range");
         }
 
         VacationBalanceClient.BalanceResult balanceResult = vacationBalanceClient.fetchBalance(userId);
         if (balanceResult.unavailable()) {
-            balanceSessionCache.storeUnavailable(session, userId);
             eventPublisher.publishImmediate("ExternalBalanceSystemUnavailable", Map.of(
                     "employeeId", userId.toString(),
                     "startDate", startDate.toString(),
@@ -70,7 +72,6 @@ public class VacationRequestService {
             return VacationSubmissionResult.externalUnavailable(balanceResult.reason());
         }
 
-        balanceSessionCache.store(session, userId, balanceResult.balance());
         BigDecimal officialBalance = balanceResult.balance();
         if (BigDecimal.valueOf(numberOfDays).compareTo(officialBalance) > 0) {
             return VacationSubmissionResult.failure("insufficient_balance", "Requested days exceed remaining balance");
@@ -92,6 +93,7 @@ public class VacationRequestService {
         request.setRequestCode(generateRequestCode(userId, startDate));
 
         VacationRequest saved = vacationRequestRepository.save(request);
+        balanceCache.invalidateAfterCommit(userId);
 
         eventPublisher.publishPostCommit("VacationRequested", Map.of(
                 "requestId", saved.getId().toString(),
@@ -0,0 +1,194 @@
+package com.company.service;
+
+import com.company.model.Holiday;
+import com.company.model.HolidayStatus;
+import com.company.repos.HolidayRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+@Component
+public class WorkingDayIndex {
+    private static final Logger log = LoggerFactory.getLogger(WorkingDayIndex.class);
+    public static final String DEFAULT_REGION = "DEFAULT";
+    public static final int MIN_YEAR = 1950;
+    public static final int MAX_YEAR = 2100;
+
+    private final HolidayRepository holidayRepository;
+    private final int defaultRestDays;
+    private final Map<String, Integer> regionRestDays;
+    private final Map<String, AtomicReferenceArray<YearCalendar>> regions = new ConcurrentHashMap<>();
+
+    public WorkingDayIndex(HolidayRepository holidayRepository,
+                           @Value("${app.calendar.rest-days:SATURDAY,SUNDAY}") List<DayOfWeek> restDays,
+                           @Value("${app.calendar.region-rest-days:}") String regionRestDays) {
+        this.holidayRepository = holidayRepository;
+        this.defaultRestDays = weekMask(restDays);
+        this.regionRestDays = parseRegionRestDays(regionRestDays);
+    }
+
+    public long countWorkingDays(String regionCode, LocalDate startDate, LocalDate endDate) {
+        String region = normalizeRegion(regionCode);
+        long total = 0;
+        for (int year = startDate.getYear(); year <= endDate.getYear(); year++) {
+            YearCalendar calendar = calendarFor(region, year);
+            int from = year == startDate.getYear() ? startDate.getDayOfYear() : 1;
+            int to = year == endDate.getYear() ? endDate.getDayOfYear() : calendar.length();
+            total += calendar.workingDaysBetween(from, to);
+        }
+        return total;
+    }
+
+    public static boolean covers(LocalDate startDate, LocalDate endDate) {
+        return startDate.getYear() >= MIN_YEAR && endDate.getYear() <= MAX_YEAR;
+    }
+
+    public void invalidateAfterCommit(Collection<Integer> affectedYears) {
+        List<Integer> snapshot = List.copyOf(affectedYears);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(snapshot);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(snapshot);
+            }
+        });
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.holidays.index-refresh-ms:300000}",
+            fixedDelayString = "${app.holidays.index-refresh-ms:300000}"
+    )
+    public void rebuildLoadedYears() {
+        regions.forEach((region, years) -> {
+            for (int slot = 0; slot < years.length(); slot++) {
+                if (years.get(slot) == null) {
+                    continue;
+                }
+                try {
+                    years.set(slot, load(region, MIN_YEAR + slot));
+                } catch (RuntimeException ex) {
+                    log.warn("Working-day index rebuild failed for {}/{}, keeping previous calendar: {}",
+                            region, MIN_YEAR + slot, ex.getMessage());
+                }
+            }
+        });
+    }
+
+    private void invalidate(List<Integer> years) {
+        for (AtomicReferenceArray<YearCalendar> calendars : regions.values()) {
+            for (Integer year : years) {
+                if (year >= MIN_YEAR && year <= MAX_YEAR) {
+                    calendars.set(year - MIN_YEAR, null);
+                }
+            }
+        }
+    }
+
+    private YearCalendar calendarFor(String region, int year) {
+        if (year < MIN_YEAR || year > MAX_YEAR) {
+            throw new IllegalArgumentException("Dates must fall between " + MIN_YEAR + " and " + MAX_YEAR);
+        }
+        AtomicReferenceArray<YearCalendar> years = regions.computeIfAbsent(region,
+                ignored -> new AtomicReferenceArray<>(MAX_YEAR - MIN_YEAR + 1));
+        YearCalendar calendar = years.get(year - MIN_YEAR);
+        if (calendar == null) {
+            calendar = load(region, year);
+            years.compareAndSet(year - MIN_YEAR, null, calendar);
+        }
+        return calendar;
+    }
+
+    private YearCalendar load(String region, int year) {
+        LocalDate first = LocalDate.ofYearDay(year, 1);
+        int length = first.lengthOfYear();
+        int restDays = regionRestDays.getOrDefault(region, defaultRestDays);
+        BitSet nonWorking = new BitSet(length + 1);
+        int firstDayOfWeek = first.getDayOfWeek().getValue() - 1;
+        for (int day = 1; day <= length; day++) {
+            if ((restDays & (1 << ((firstDayOfWeek + day - 1) % 7))) != 0) {
+                nonWorking.set(day);
+            }
+        }
+        LocalDate last = first.withDayOfYear(length);
+        for (Holiday holiday : holidayRepository.findForRange(HolidayStatus.IMPORTED, first, last)) {
+            String holidayRegion = holiday.getRegionCode();
+            if (holidayRegion == null || normalizeRegion(holidayRegion).equals(region)) {
+                nonWorking.set(holiday.getDate().getDayOfYear());
+            }
+        }
+        return new YearCalendar(length, nonWorking);
+    }
+
+    private static String normalizeRegion(String regionCode) {
+        return StringUtils.hasText(regionCode) ? regionCode.trim().toUpperCase(Locale.ROOT) : DEFAULT_REGION;
+    }
+
+    private static int weekMask(Collection<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    private static Map<String, Integer> parseRegionRestDays(String raw) {
+        Map<String, Integer> parsed = new HashMap<>();
+        if (!StringUtils.hasText(raw)) {
+            return Map.of();
+        }
+        for (String entry : raw.split(",")) {
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2 || !StringUtils.hasText(parts[0])) {
+                throw new IllegalArgumentException("Invalid app.calendar.region-rest-days entry: " + entry);
+            }
+            int mask = 0;
+            for (String day : parts[1].split("\\+")) {
+                if (StringUtils.hasText(day)) {
+                    mask |= 1 << (DayOfWeek.valueOf(day.trim().toUpperCase(Locale.ROOT)).getValue() - 1);
+                }
+            }
+            parsed.put(normalizeRegion(parts[0]), mask);
+        }
+        return Map.copyOf(parsed);
+    }
+
+    private static final class YearCalendar {
+        private final int length;
+        private final int[] nonWorkingPrefix;
+
+        private YearCalendar(int length, BitSet nonWorking) {
+            this.length = length;
+            this.nonWorkingPrefix = new int[length + 1];
+            for (int day = 1; day <= length; day++) {
+                nonWorkingPrefix[day] = nonWorkingPrefix[day - 1] + (nonWorking.get(day) ? 1 : 0);
+            }
+        }
+
+        int length() {
+            return length;
+        }
+
+        int workingDaysBetween(int fromDay, int toDay) {
+            int days = toDay - fromDay + 1;
+            return days - (nonWorkingPrefix[toDay] - nonWorkingPrefix[fromDay - 1]);
+        }
+    }
+}
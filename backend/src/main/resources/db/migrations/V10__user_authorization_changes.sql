@@ -0,0 +1,4 @@
+-- Last role/status change per user; live sessions authorized before this instant are refreshed or revoked
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS authz_changed_at TIMESTAMPTZ;
+CREATE INDEX IF NOT EXISTS idx_users_authz_changed_at ON users(authz_changed_at) WHERE authz_changed_at IS NOT NULL;
@@ -0,0 +1,12 @@
+-- Working calendar: per-region holiday sets and employee regions (NULL = applies to / uses the default calendar)
+ALTER TABLE holidays
+    ADD COLUMN IF NOT EXISTS region_code VARCHAR(20);
+
+ALTER TABLE users
+    ADD COLUMN IF NOT EXISTS region_code VARCHAR(20);
+
+-- Holidays are unique per date, name and region; a NULL region (default calendar) counts as its own region
+ALTER TABLE holidays
+    DROP CONSTRAINT IF EXISTS uq_holiday_date_name;
+CREATE UNIQUE INDEX IF NOT EXISTS uq_holiday_date_name_region
+    ON holidays (holiday_date, name, (COALESCE(region_code, '')));
@@ -0,0 +1,19 @@
+-- Durable INT-001 deduction jobs: HR processing enqueues, the deduction worker executes outside any request transaction
+CREATE TABLE IF NOT EXISTS deduction_jobs (
+    request_id UUID PRIMARY KEY REFERENCES vacation_requests(id),
+    hr_id UUID NOT NULL REFERENCES users(id),
+    hr_notes TEXT,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    last_error TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    completed_at TIMESTAMPTZ
+);
+CREATE INDEX IF NOT EXISTS idx_deduction_jobs_due ON deduction_jobs(next_attempt_at) WHERE status IN ('PENDING', 'IN_PROGRESS');
+
+ALTER TABLE vacation_requests DROP CONSTRAINT IF EXISTS ck_external_deduction_status;
+ALTER TABLE vacation_requests
+    ADD CONSTRAINT ck_external_deduction_status
+        CHECK (external_deduction_status IN ('PENDING', 'SUCCESS', 'FAILED') OR external_deduction_status IS NULL);
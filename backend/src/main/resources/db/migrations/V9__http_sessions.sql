@@ -0,0 +1,10 @@
+-- Shared HTTP session store (opt-in via app.session.store=jdbc); attributes use the compact SessionAttributeCodec format
+CREATE TABLE IF NOT EXISTS http_sessions (
+    id VARCHAR(64) PRIMARY KEY,
+    creation_time TIMESTAMPTZ NOT NULL,
+    last_access_time TIMESTAMPTZ NOT NULL,
+    max_inactive_seconds INT NOT NULL,
+    expiry_time TIMESTAMPTZ NOT NULL,
+    attributes BYTEA NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_http_sessions_expiry ON http_sessions(expiry_time);
@@ -0,0 +1,63 @@
+package com.company.auth;
+
+import com.company.repos.UserLoginRepository;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginRecorderTest {
+
+    @Mock
+    private UserLoginRepository userLoginRepository;
+
+    @Test
+    void coalescesRepeatedLoginsIntoOneBatchedUpdate() {
+        LastLoginRecorder recorder = new LastLoginRecorder(userLoginRepository);
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        Instant first = Instant.parse("2024-03-04T08:00:00Z");
+        Instant second = first.plusSeconds(30);
+
+        recorder.record(alice, second);
+        recorder.record(alice, first);
+        recorder.record(bob, first);
+        recorder.flush();
+        recorder.flush();
+
+        verify(userLoginRepository, times(1)).updateLastLoginTimes(Map.of(alice, second, bob, first));
+        assertThat(recorder.stats()).isEqualTo(new LastLoginRecorder.Stats(0, 3, 1, 2));
+    }
+
+    @Test
+    void keepsPendingLoginsWhenFlushFails() {
+        LastLoginRecorder recorder = new LastLoginRecorder(userLoginRepository);
+        UUID alice = UUID.randomUUID();
+        Instant loginAt = Instant.parse("2024-03-04T08:00:00Z");
+        when(userLoginRepository.updateLastLoginTimes(any())).thenThrow(new IllegalStateException("db down"));
+
+        recorder.record(alice, loginAt);
+        recorder.flush();
+
+        assertThat(recorder.stats().pending()).isEqualTo(1);
+        assertThat(recorder.stats().flushes()).isZero();
+    }
+
+    @Test
+    void skipsFlushWhenNothingIsPending() {
+        new LastLoginRecorder(userLoginRepository).flush();
+
+        verifyNoInteractions(userLoginRepository);
+    }
+}
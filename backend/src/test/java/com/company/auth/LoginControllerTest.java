@@ -1,35 +1,46 @@
 package com.company.auth;
 
-import com.company.model.Role;
-import com.company.model.User;
 import com.company.model.UserStatus;
-import com.company.repos.UserRepository;
+import com.company.repos.UserLoginRepository;
+import com.company.repos.UserLoginRepository.LoginCredentials;
+import com.company.service.PasswordHashingService;
 import com.company.service.RoleService;
 import com.company.service.SessionService;
 import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.any;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class LoginControllerTest {
 
-    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserLoginRepository userLoginRepository = mock(UserLoginRepository.class);
+    private final LastLoginRecorder lastLoginRecorder = mock(LastLoginRecorder.class);
     private final PasswordEncoder passwordEncoder = PasswordEncoderFactories.createDelegatingPasswordEncoder();
     private final SessionService sessionService = new SessionService(new RoleService());
     private final RoleService roleService = new RoleService();
-    private final LoginController controller = new LoginController(userRepository, passwordEncoder, sessionService, roleService);
+    private final PasswordHashingService passwordHashingService =
+            new PasswordHashingService(passwordEncoder, Runnable::run, Duration.ofSeconds(5), 10, 0);
+    private final LoginController controller = new LoginController(userLoginRepository, passwordHashingService,
+            sessionService, roleService, lastLoginRecorder);
 
     @Test
     void returnsBadRequestWhenMissingFields() {
@@ -40,23 +51,31 @@ class LoginControllerTest {
 
     @Test
     void returnsUnauthorizedForUnknownUser() {
-        when(userRepository.findByUsernameIgnoreCase("alice")).thenReturn(Optional.empty());
+        when(userLoginRepository.findCredentials("alice")).thenReturn(Optional.empty());
 
         ResponseEntity<?> response = controller.login(new LoginRequest("alice", "pw"), new MockHttpServletRequest());
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
     }
 
+    @Test
+    void rejectsDisabledUserWithoutRecordingLogin() {
+        LoginCredentials credentials = new LoginCredentials(UUID.randomUUID(), passwordEncoder.encode("pw"),
+                UserStatus.DISABLED, null, List.of("EMPLOYEE"));
+        when(userLoginRepository.findCredentials("carol")).thenReturn(Optional.of(credentials));
+
+        ResponseEntity<?> response = controller.login(new LoginRequest("carol", "pw"), new MockHttpServletRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        verify(lastLoginRecorder, never()).record(any(), any());
+    }
+
     @Test
     void logsInActiveUserAndReturnsHomeRoute() {
-        User user = new User();
-        user.setUsername("bob");
-        user.setPasswordHash(passwordEncoder.encode("pw"));
-        user.setStatus(UserStatus.ACTIVE);
-        Role manager = new Role();
-        manager.setCode("MANAGER");
-        user.setRoles(Set.of(manager));
-        when(userRepository.findByUsernameIgnoreCase("bob")).thenReturn(Optional.of(user));
+        UUID userId = UUID.randomUUID();
+        LoginCredentials credentials = new LoginCredentials(userId, passwordEncoder.encode("pw"),
+                UserStatus.ACTIVE, null, List.of("MANAGER"));
+        when(userLoginRepository.findCredentials("bob")).thenReturn(Optional.of(credentials));
 
         HttpServletRequest request = new MockHttpServletRequest();
         ResponseEntity<?> response = controller.login(new LoginRequest("bob", "pw"), request);
@@ -66,8 +85,33 @@ class LoginControllerTest {
         LoginResponse body = (LoginResponse) response.getBody();
         assertThat(body.homeRoute()).isEqualTo("/manager");
 
-        ArgumentCaptor<User> saved = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(saved.capture());
-        assertThat(saved.getValue().getLastLoginAt()).isNotNull();
+        assertThat(sessionService.getUserId(request.getSession())).isEqualTo(userId);
+        assertThat(sessionService.getRoles(request.getSession())).containsExactly("MANAGER");
+        verify(lastLoginRecorder).record(eq(userId), any(Instant.class));
+    }
+
+    @Test
+    void upgradesWeakHashAfterSuccessfulLogin() {
+        UUID userId = UUID.randomUUID();
+        String weakHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("pw");
+        LoginCredentials credentials = new LoginCredentials(userId, weakHash, UserStatus.ACTIVE, null, List.of("EMPLOYEE"));
+        when(userLoginRepository.findCredentials("dave")).thenReturn(Optional.of(credentials));
+
+        ResponseEntity<?> response = controller.login(new LoginRequest("dave", "pw"), new MockHttpServletRequest());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(userLoginRepository).updatePasswordHash(eq(userId), eq(weakHash), startsWith("{bcrypt}$2a$10$"));
+        assertThat(passwordHashingService.stats().rehashes()).isEqualTo(1);
+    }
+
+    @Test
+    void keepsCurrentHashWithoutRewriting() {
+        LoginCredentials credentials = new LoginCredentials(UUID.randomUUID(), passwordEncoder.encode("pw"),
+                UserStatus.ACTIVE, null, List.of("EMPLOYEE"));
+        when(userLoginRepository.findCredentials("erin")).thenReturn(Optional.of(credentials));
+
+        controller.login(new LoginRequest("erin", "pw"), new MockHttpServletRequest());
+
+        verify(userLoginRepository, never()).updatePasswordHash(any(), anyString(), anyString());
     }
 }
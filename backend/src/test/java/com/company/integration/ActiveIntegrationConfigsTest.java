@@ -0,0 +1,66 @@
+package com.company.integration;
+
+import com.company.model.IntegrationConfig;
+import com.company.model.IntegrationState;
+import com.company.model.IntegrationType;
+import com.company.repos.IntegrationConfigRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveIntegrationConfigsTest {
+
+    @Mock
+    private IntegrationConfigRepository integrationConfigRepository;
+
+    private ActiveIntegrationConfigs activeIntegrationConfigs;
+
+    @BeforeEach
+    void setUp() {
+        activeIntegrationConfigs = new ActiveIntegrationConfigs(integrationConfigRepository);
+    }
+
+    @Test
+    void loadsOnceAndServesFromSnapshot() {
+        when(integrationConfigRepository.findByState(IntegrationState.CONFIGURED))
+                .thenReturn(List.of(config(IntegrationType.VACATION_BALANCE, "http://localhost/balance")));
+
+        activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE);
+        activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE);
+
+        assertThat(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
+                .map(IntegrationConfig::getEndpointUrl)
+                .contains("http://localhost/balance");
+        assertThat(activeIntegrationConfigs.find(IntegrationType.HOLIDAY_API)).isEmpty();
+        verify(integrationConfigRepository, times(1)).findByState(IntegrationState.CONFIGURED);
+    }
+
+    @Test
+    void refreshOutsideTransactionReloadsImmediately() {
+        when(integrationConfigRepository.findByState(IntegrationState.CONFIGURED))
+                .thenReturn(List.of(config(IntegrationType.HOLIDAY_API, "http://localhost/holidays")))
+                .thenReturn(List.of());
+
+        assertThat(activeIntegrationConfigs.find(IntegrationType.HOLIDAY_API)).isPresent();
+        activeIntegrationConfigs.refreshAfterCommit();
+
+        assertThat(activeIntegrationConfigs.find(IntegrationType.HOLIDAY_API)).isEmpty();
+    }
+
+    private IntegrationConfig config(IntegrationType type, String endpoint) {
+        IntegrationConfig config = new IntegrationConfig();
+        config.setType(type);
+        config.setState(IntegrationState.CONFIGURED);
+        config.setEndpointUrl(endpoint);
+        return config;
+    }
+}
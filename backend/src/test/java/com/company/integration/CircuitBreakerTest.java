@@ -0,0 +1,96 @@
+package com.company.integration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T09:00:00Z"));
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 10, 4, 50, Duration.ofSeconds(30), clock);
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        failTimes(3);
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.snapshot().state()).isEqualTo("CLOSED");
+    }
+
+    @Test
+    void opensWhenFailureRateCrossesThreshold() {
+        breaker.onSuccess();
+        failTimes(3);
+
+        assertThat(breaker.snapshot().state()).isEqualTo("OPEN");
+        assertThat(breaker.snapshot().tripCount()).isEqualTo(1);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.snapshot().rejectedCalls()).isEqualTo(1);
+    }
+
+    @Test
+    void halfOpenAllowsSingleProbeAndClosesOnSuccess() {
+        failTimes(4);
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.snapshot().state()).isEqualTo("HALF_OPEN");
+
+        breaker.onSuccess();
+
+        assertThat(breaker.snapshot().state()).isEqualTo("CLOSED");
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedProbeReopens() {
+        failTimes(4);
+        clock.advance(Duration.ofSeconds(31));
+        breaker.tryAcquire();
+
+        breaker.onFailure();
+
+        assertThat(breaker.snapshot().state()).isEqualTo("OPEN");
+        assertThat(breaker.snapshot().tripCount()).isEqualTo(2);
+    }
+
+    private void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            breaker.tryAcquire();
+            breaker.onFailure();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.integration;
+
+import com.company.ops.EventPublishMonitor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventRejectionHandlerTest {
+
+    private final EventPublishMonitor monitor = new EventPublishMonitor();
+    private final ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+    private final EventRejectionHandler handler = new EventRejectionHandler(EventRejectionPolicy.CALLER_RUNS, monitor);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void runsFirstAttemptsOnTheCallerAndCountsThem() {
+        AtomicInteger runs = new AtomicInteger();
+
+        handler.rejectedExecution(new EventPublisher.Dispatch("UserCreated", 0, runs::incrementAndGet), executor);
+
+        assertThat(runs).hasValue(1);
+        EventPublishMonitor.EventTypeStats stats = monitor.snapshot().get(0);
+        assertThat(stats.callerRuns()).isEqualTo(1);
+        assertThat(stats.rejected()).isZero();
+    }
+
+    @Test
+    void rejectsRetriesInsteadOfRunningThemOnTheSchedulerThread() {
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThatThrownBy(() -> handler.rejectedExecution(
+                new EventPublisher.Dispatch("UserCreated", 1, runs::incrementAndGet), executor))
+                .isInstanceOf(RejectedExecutionException.class);
+
+        assertThat(runs).hasValue(0);
+        EventPublishMonitor.EventTypeStats stats = monitor.snapshot().get(0);
+        assertThat(stats.rejected()).isEqualTo(1);
+        assertThat(stats.callerRuns()).isZero();
+    }
+}
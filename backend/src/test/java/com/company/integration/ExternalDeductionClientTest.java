@@ -4,7 +4,7 @@ import com.company.model.IntegrationConfig;
 import com.company.model.IntegrationState;
 import com.company.model.IntegrationType;
 import com.company.ops.EventPublishMonitor;
-import com.company.repos.IntegrationConfigRepository;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,21 +32,29 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 class ExternalDeductionClientTest {
 
     @Mock
-    private IntegrationConfigRepository integrationConfigRepository;
+    private ActiveIntegrationConfigs activeIntegrationConfigs;
 
     @Mock
     private EventPublishMonitor eventPublishMonitor;
 
     private ExternalDeductionClient client;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
 
     @BeforeEach
     void setUp() {
-        client = new ExternalDeductionClient(integrationConfigRepository, new RestTemplateBuilder(), eventPublishMonitor);
+        circuitBreakerRegistry = new CircuitBreakerRegistry(20, 3, 50, Duration.ofSeconds(30));
+        client = new ExternalDeductionClient(
+                activeIntegrationConfigs,
+                new OutboundHttpClients(new RestTemplateBuilder(), 20, 50, Duration.ofSeconds(30), false),
+                eventPublishMonitor,
+                circuitBreakerRegistry,
+                new IntegrationRetrier(1, 1, 10)
+        );
     }
 
     @Test
     void returnsUnavailableWhenIntegrationMissing() {
-        when(integrationConfigRepository.findFirstByTypeAndState(IntegrationType.VACATION_BALANCE, IntegrationState.CONFIGURED))
+        when(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
                 .thenReturn(Optional.empty());
 
         ExternalDeductionClient.DeductionResult result = client.deduct(UUID.randomUUID(), UUID.randomUUID(), 3);
@@ -61,7 +69,7 @@ class ExternalDeductionClientTest {
         config.setType(IntegrationType.VACATION_BALANCE);
         config.setState(IntegrationState.CONFIGURED);
         config.setEndpointUrl("http://localhost/deduct");
-        when(integrationConfigRepository.findFirstByTypeAndState(IntegrationType.VACATION_BALANCE, IntegrationState.CONFIGURED))
+        when(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
                 .thenReturn(Optional.of(config));
         MockRestServiceServer server = MockRestServiceServer.createServer(client.restTemplate());
         UUID requestId = UUID.randomUUID();
@@ -81,7 +89,7 @@ class ExternalDeductionClientTest {
         config.setType(IntegrationType.VACATION_BALANCE);
         config.setState(IntegrationState.CONFIGURED);
         config.setEndpointUrl("http://localhost/deduct");
-        when(integrationConfigRepository.findFirstByTypeAndState(IntegrationType.VACATION_BALANCE, IntegrationState.CONFIGURED))
+        when(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
                 .thenReturn(Optional.of(config));
         MockRestServiceServer server = MockRestServiceServer.createServer(client.restTemplate());
         UUID requestId = UUID.randomUUID();
@@ -94,4 +102,25 @@ class ExternalDeductionClientTest {
         verify(eventPublishMonitor).recordDeductionFailure(requestId, "External balance system unavailable");
         server.verify();
     }
+
+    @Test
+    void failsFastOnceCircuitIsOpen() {
+        IntegrationConfig config = new IntegrationConfig();
+        config.setType(IntegrationType.VACATION_BALANCE);
+        config.setState(IntegrationState.CONFIGURED);
+        config.setEndpointUrl("http://localhost/deduct");
+        when(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
+                .thenReturn(Optional.of(config));
+        MockRestServiceServer server = MockRestServiceServer.createServer(client.restTemplate());
+        server.expect(ExpectedCount.times(3), requestTo(config.getEndpointUrl()))
+                .andRespond(withStatus(HttpStatus.BAD_GATEWAY));
+
+        client.deduct(UUID.randomUUID(), UUID.randomUUID(), 1);
+        ExternalDeductionClient.DeductionResult second = client.deduct(UUID.randomUUID(), UUID.randomUUID(), 1);
+
+        assertThat(second.unavailable()).isTrue();
+        assertThat(circuitBreakerRegistry.forIntegration(ExternalDeductionClient.CIRCUIT_NAME).snapshot().state())
+                .isEqualTo("OPEN");
+        server.verify();
+    }
 }
@@ -0,0 +1,57 @@
+package com.company.integration;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OutboundHttpClientsTest {
+
+    private HttpServer server;
+    private OutboundHttpClients outboundHttpClients;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/balance", exchange -> {
+            byte[] body = "{\"balance\":5}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        outboundHttpClients = new OutboundHttpClients(new RestTemplateBuilder(), 2, 4, Duration.ofSeconds(30), false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboundHttpClients.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void reusesPooledConnectionAcrossRequests() {
+        RestTemplate restTemplate = outboundHttpClients.restTemplate("test", Duration.ofSeconds(2), Duration.ofSeconds(2));
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/balance";
+
+        restTemplate.getForObject(url, String.class);
+        restTemplate.getForObject(url, String.class);
+        restTemplate.getForObject(url, String.class);
+
+        OutboundHttpClients.Stats stats = outboundHttpClients.stats().get(0);
+        assertThat(stats.name()).isEqualTo("test");
+        assertThat(stats.requests()).isEqualTo(3);
+        assertThat(stats.connectionsOpened()).isEqualTo(1);
+        assertThat(stats.available()).isEqualTo(1);
+        assertThat(stats.leased()).isZero();
+        assertThat(stats.max()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,103 @@
+package com.company.integration;
+
+import com.company.model.OutboxEvent;
+import com.company.model.OutboxStatus;
+import com.company.ops.EventPublishMonitor;
+import com.company.repos.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private EventPublisher eventPublisher;
+    @Mock
+    private EventPublishMonitor eventPublishMonitor;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, eventPublisher, eventPublishMonitor, new ObjectMapper(),
+                transactionManager, 10, 3, Duration.ofSeconds(2), Duration.ofDays(7));
+    }
+
+    @Test
+    void deliversInOrderAndMarksDelivered() {
+        OutboxEvent first = event("VacationRequested", "{\"requestId\":\"a\"}");
+        OutboxEvent second = event("VacationApproved", "{\"requestId\":\"a\"}");
+        when(outboxEventRepository.lockNextBatch(eq(OutboxStatus.PENDING), any())).thenReturn(List.of(first, second));
+
+        relay.relay();
+
+        InOrder order = inOrder(eventPublisher);
+        order.verify(eventPublisher).deliver("VacationRequested", Map.of("requestId", "a"));
+        order.verify(eventPublisher).deliver("VacationApproved", Map.of("requestId", "a"));
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.DELIVERED);
+        assertThat(second.getStatus()).isEqualTo(OutboxStatus.DELIVERED);
+        assertThat(first.getDeliveredAt()).isNotNull();
+    }
+
+    @Test
+    void failureSchedulesBackoffAndHoldsLaterEvents() {
+        OutboxEvent first = event("VacationRequested", "{}");
+        OutboxEvent second = event("VacationApproved", "{}");
+        when(outboxEventRepository.lockNextBatch(eq(OutboxStatus.PENDING), any())).thenReturn(List.of(first, second));
+        doThrow(new IllegalStateException("sink down")).when(eventPublisher).deliver(eq("VacationRequested"), any());
+
+        relay.relay();
+
+        assertThat(first.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isAfter(Instant.now());
+        assertThat(first.getLastError()).isEqualTo("sink down");
+        verify(eventPublisher, never()).deliver(eq("VacationApproved"), any());
+    }
+
+    @Test
+    void marksFailedAfterMaxAttemptsAndMovesOn() {
+        OutboxEvent poison = event("VacationRequested", "{}");
+        poison.setAttempts(2);
+        OutboxEvent next = event("VacationApproved", "{}");
+        when(outboxEventRepository.lockNextBatch(eq(OutboxStatus.PENDING), any())).thenReturn(List.of(poison, next));
+        doThrow(new IllegalStateException("sink down")).when(eventPublisher).deliver(eq("VacationRequested"), any());
+
+        relay.relay();
+
+        assertThat(poison.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(next.getStatus()).isEqualTo(OutboxStatus.DELIVERED);
+        verify(eventPublishMonitor).recordEventFailure("VacationRequested", 3);
+    }
+
+    private OutboxEvent event(String type, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventType(type);
+        event.setPayload(payload);
+        event.onCreate();
+        return event;
+    }
+}
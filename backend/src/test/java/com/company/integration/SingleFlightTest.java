@@ -0,0 +1,64 @@
+package com.company.integration;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("user", () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(release);
+                return CompletableFuture.completedFuture("balance");
+            }).join(), pool);
+            assertThat(loaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> follower = singleFlight.execute("user", () -> {
+                loads.incrementAndGet();
+                return CompletableFuture.completedFuture("other");
+            });
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("balance");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("balance");
+            assertThat(loads.get()).isEqualTo(1);
+            assertThat(singleFlight.stats().inFlight()).isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void sequentialCallsExecuteAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("user", () -> CompletableFuture.completedFuture("v" + loads.incrementAndGet())).join();
+        String second = singleFlight.execute("user", () -> CompletableFuture.completedFuture("v" + loads.incrementAndGet())).join();
+
+        assertThat(second).isEqualTo("v2");
+        assertThat(singleFlight.stats().executions()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.company.integration;
 import com.company.model.IntegrationConfig;
 import com.company.model.IntegrationState;
 import com.company.model.IntegrationType;
-import com.company.repos.IntegrationConfigRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,10 +15,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
 import org.springframework.test.web.client.MockRestServiceServer;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
 import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
 import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
@@ -24,18 +30,24 @@ import static org.springframework.test.web.client.response.MockRestResponseCreat
 class VacationBalanceClientTest {
 
     @Mock
-    private IntegrationConfigRepository integrationConfigRepository;
+    private ActiveIntegrationConfigs activeIntegrationConfigs;
 
     private VacationBalanceClient client;
 
     @BeforeEach
     void setUp() {
-        client = new VacationBalanceClient(integrationConfigRepository, new RestTemplateBuilder());
+        client = new VacationBalanceClient(
+                activeIntegrationConfigs,
+                new OutboundHttpClients(new RestTemplateBuilder(), 20, 50, Duration.ofSeconds(30), false),
+                Runnable::run,
+                new CircuitBreakerRegistry(20, 10, 50, Duration.ofSeconds(30)),
+                new IntegrationRetrier(1, 1, 10)
+        );
     }
 
     @Test
     void returnsUnavailableWhenIntegrationMissing() {
-        when(integrationConfigRepository.findFirstByTypeAndState(IntegrationType.VACATION_BALANCE, IntegrationState.CONFIGURED))
+        when(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
                 .thenReturn(Optional.empty());
 
         VacationBalanceClient.BalanceResult result = client.fetchBalance(UUID.randomUUID());
@@ -50,7 +62,7 @@ class VacationBalanceClientTest {
         config.setType(IntegrationType.VACATION_BALANCE);
         config.setState(IntegrationState.CONFIGURED);
         config.setEndpointUrl("http://localhost/balance");
-        when(integrationConfigRepository.findFirstByTypeAndState(IntegrationType.VACATION_BALANCE, IntegrationState.CONFIGURED))
+        when(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
                 .thenReturn(Optional.of(config));
         MockRestServiceServer server = MockRestServiceServer.createServer(client.restTemplate());
         server.expect(requestTo(config.getEndpointUrl()))
@@ -62,4 +74,29 @@ class VacationBalanceClientTest {
         assertThat(result.balance()).isEqualByComparingTo("9");
         server.verify();
     }
+
+    @Test
+    void fetchesEachDistinctUserOnceInBatch() {
+        IntegrationConfig config = new IntegrationConfig();
+        config.setType(IntegrationType.VACATION_BALANCE);
+        config.setState(IntegrationState.CONFIGURED);
+        config.setEndpointUrl("http://localhost/balance");
+        when(activeIntegrationConfigs.find(IntegrationType.VACATION_BALANCE))
+                .thenReturn(Optional.of(config));
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(client.restTemplate()).ignoreExpectOrder(true).build();
+        server.expect(ExpectedCount.once(), header("X-User-Id", first.toString()))
+                .andRespond(withSuccess("{\"balance\":4}", MediaType.APPLICATION_JSON));
+        server.expect(ExpectedCount.once(), header("X-User-Id", second.toString()))
+                .andRespond(withSuccess("{\"balance\":7}", MediaType.APPLICATION_JSON));
+
+        Map<UUID, VacationBalanceClient.BalanceResult> results = client.fetchBalances(List.of(first, second, first));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(first).balance()).isEqualByComparingTo("4");
+        assertThat(results.get(second).balance()).isEqualByComparingTo("7");
+        verify(activeIntegrationConfigs, times(1)).find(IntegrationType.VACATION_BALANCE);
+        server.verify();
+    }
 }
@@ -1,8 +1,10 @@
 package com.company.ops;
 
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
 class EventPublishMonitorTest {
@@ -13,4 +15,30 @@ class EventPublishMonitorTest {
         assertDoesNotThrow(() -> monitor.recordEventFailure("TestEvent", 3));
         assertDoesNotThrow(() -> monitor.recordDeductionFailure(UUID.randomUUID(), "integration down"));
     }
+
+    @Test
+    void tracksCountersPerEventType() {
+        EventPublishMonitor monitor = new EventPublishMonitor();
+        monitor.recordPublished("UserCreated", 2_000_000);
+        monitor.recordPublished("UserCreated", 4_000_000);
+        monitor.recordRetried("UserCreated");
+        monitor.recordRejected("TeamUpdated");
+        monitor.recordCallerRun("TeamUpdated");
+        monitor.recordEventFailure("TeamUpdated", 3);
+
+        List<EventPublishMonitor.EventTypeStats> snapshot = monitor.snapshot();
+
+        assertThat(snapshot).extracting(EventPublishMonitor.EventTypeStats::eventType)
+                .containsExactly("TeamUpdated", "UserCreated");
+        EventPublishMonitor.EventTypeStats team = snapshot.get(0);
+        assertThat(team.published()).isZero();
+        assertThat(team.rejected()).isEqualTo(1);
+        assertThat(team.callerRuns()).isEqualTo(1);
+        assertThat(team.failed()).isEqualTo(1);
+        EventPublishMonitor.EventTypeStats user = snapshot.get(1);
+        assertThat(user.published()).isEqualTo(2);
+        assertThat(user.retried()).isEqualTo(1);
+        assertThat(user.avgQueueWaitMillis()).isEqualTo(3.0);
+        assertThat(user.maxQueueWaitMillis()).isEqualTo(4.0);
+    }
 }
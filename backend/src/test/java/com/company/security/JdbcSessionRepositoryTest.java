@@ -0,0 +1,197 @@
+package com.company.security;
+
+import com.company.service.SessionService;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcSessionRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SessionAttributeCodec codec = new SessionAttributeCodec();
+    private JdbcSessionRepository repository;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2025-03-01T10:00:00Z");
+        repository = new JdbcSessionRepository(jdbcTemplate, codec, Duration.ofMinutes(30),
+                Duration.ofSeconds(10), Duration.ofMinutes(1), new TestClock());
+    }
+
+    @Test
+    void codecRoundTripsSessionAttributesCompactly() {
+        UUID userId = UUID.randomUUID();
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(SessionService.ATTR_USER_ID, userId);
+        attributes.put(SessionService.ATTR_ROLES, List.of("ADMIN", "EMPLOYEE"));
+        attributes.put(SessionService.ATTR_ROLE_MASK, RoleMask.of(List.of("ADMIN", "EMPLOYEE")));
+        attributes.put(SessionService.ATTR_REGION, "DE");
+
+        byte[] encoded = codec.encode(attributes);
+
+        assertThat(codec.decode(encoded)).isEqualTo(attributes);
+        assertThat(encoded.length).isLessThan(150);
+    }
+
+    @Test
+    void codecDropsUnsupportedAttributesAndNeverDeserializesLegacyValues() throws Exception {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(SessionService.ATTR_REGION, "DE");
+        attributes.put("arbitrary", new Date());
+
+        assertThat(codec.decode(codec.encode(attributes))).containsOnlyKeys(SessionService.ATTR_REGION);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(1);
+            out.writeShort(3);
+            out.writeUTF("legacy");
+            out.writeByte(9);
+            out.writeInt(3);
+            out.write(new byte[] {1, 2, 3});
+            out.writeUTF("balanceCache");
+            out.writeByte(5);
+            out.writeLong(1L);
+            out.writeLong(2L);
+            out.writeBoolean(false);
+            out.writeBoolean(true);
+            out.writeUTF("12.5");
+            out.writeUTF(SessionService.ATTR_REGION);
+            out.writeByte(2);
+            out.writeUTF("FR");
+        }
+
+        assertThat(codec.decode(bytes.toByteArray())).isEqualTo(Map.of(SessionService.ATTR_REGION, "FR"));
+    }
+
+    @Test
+    void servesRepeatedRequestsFromNearCacheAndThrottlesTouches() {
+        MapSession session = repository.createSession();
+        session.setAttribute(SessionService.ATTR_USER_ID, UUID.randomUUID());
+        repository.save(session);
+
+        now = now.plusSeconds(5);
+        MapSession found = repository.findById(session.getId());
+        found.setLastAccessedTime(now);
+        repository.save(found);
+
+        assertThat(found.<UUID>getAttribute(SessionService.ATTR_USER_ID))
+                .isEqualTo(session.getAttribute(SessionService.ATTR_USER_ID));
+        verify(jdbcTemplate, never()).query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), any(Object[].class));
+        verify(jdbcTemplate, times(1)).update(startsWith("INSERT INTO http_sessions"), any(Object[].class));
+
+        found.setAttribute(SessionService.ATTR_REGION, "DE");
+        repository.save(found);
+
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO http_sessions"), any(Object[].class));
+        assertThat(repository.stats().skippedWrites()).isEqualTo(1);
+        assertThat(repository.stats().nearCacheHits()).isEqualTo(1);
+    }
+
+    @Test
+    void loadsFromDatabaseAfterNearCacheExpires() throws Exception {
+        UUID userId = UUID.randomUUID();
+        byte[] encoded = codec.encode(Map.of(SessionService.ATTR_USER_ID, userId));
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getBytes("attributes")).thenReturn(encoded);
+        when(resultSet.getTimestamp("creation_time")).thenReturn(Timestamp.from(now.minusSeconds(600)));
+        when(resultSet.getTimestamp("last_access_time")).thenReturn(Timestamp.from(now.minusSeconds(60)));
+        when(resultSet.getInt("max_inactive_seconds")).thenReturn(1800);
+        when(jdbcTemplate.query(anyString(), ArgumentMatchers.<RowMapper<Object>>any(), eq("abc"))).thenAnswer(invocation -> {
+            RowMapper<Object> mapper = invocation.getArgument(1);
+            return List.of(mapper.mapRow(resultSet, 0));
+        });
+
+        MapSession session = repository.findById("abc");
+
+        assertThat(session.<UUID>getAttribute(SessionService.ATTR_USER_ID)).isEqualTo(userId);
+        assertThat(repository.stats().reads()).isEqualTo(1);
+
+        now = now.plusSeconds(1800);
+        assertThat(repository.findById("abc")).isNull();
+        verify(jdbcTemplate).update("DELETE FROM http_sessions WHERE id = ?", "abc");
+    }
+
+    @Test
+    void changedSessionIdRemovesOriginalRow() {
+        MapSession session = repository.createSession();
+        repository.save(session);
+        MapSession loaded = repository.findById(session.getId());
+        String originalId = loaded.getId();
+
+        loaded.changeSessionId();
+        repository.save(loaded);
+
+        verify(jdbcTemplate).update("DELETE FROM http_sessions WHERE id = ?", originalId);
+        assertThat(repository.findById(loaded.getId())).isNotNull();
+    }
+
+    @Test
+    void nearCacheHitWithinTtlMakesNoJdbcCalls() {
+        MapSession session = repository.createSession();
+        session.setAttribute(SessionService.ATTR_USER_ID, UUID.randomUUID());
+        repository.save(session);
+        clearInvocations(jdbcTemplate);
+
+        now = now.plusSeconds(9);
+
+        assertThat(repository.findById(session.getId())).isNotNull();
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(repository.stats().nearCacheHits()).isEqualTo(1);
+        assertThat(repository.stats().reads()).isZero();
+    }
+
+    private final class TestClock extends Clock {
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -1,21 +1,37 @@
 package com.company.security;
 
+import com.company.model.Role;
+import com.company.model.User;
+import com.company.model.UserStatus;
+import com.company.repos.UserRepository;
 import com.company.service.RoleService;
+import com.company.service.SessionRefreshService;
 import com.company.service.SessionService;
 import jakarta.servlet.ServletException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 class RbacFilterTest {
 
     private final SessionService sessionService = new SessionService(new RoleService());
-    private final RbacFilter filter = new RbacFilter(sessionService);
+    private final AuthorizationEpochs authorizationEpochs = new AuthorizationEpochs();
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RbacFilter filter = new RbacFilter(sessionService, authorizationEpochs,
+            new SessionRefreshService(userRepository, sessionService));
 
     @Test
     void returnsUnauthorizedWhenSessionMissing() throws ServletException, IOException {
@@ -51,4 +67,94 @@ class RbacFilterTest {
 
         assertThat(response.getStatus()).isEqualTo(200);
     }
+
+    @Test
+    void authorizesFromPrecomputedRoleMask() throws ServletException, IOException {
+        MockHttpServletRequest hrRequest = new MockHttpServletRequest("POST", "/api/hr/process/bulk");
+        hrRequest.getSession(true).setAttribute(SessionService.ATTR_ROLE_MASK, RoleMask.AUTHENTICATED | RoleMask.HR);
+        MockHttpServletResponse hrResponse = new MockHttpServletResponse();
+        filter.doFilter(hrRequest, hrResponse, new MockFilterChain());
+
+        MockHttpServletRequest adminRequest = new MockHttpServletRequest("GET", "/api/admin/users");
+        adminRequest.setSession(hrRequest.getSession());
+        MockHttpServletResponse adminResponse = new MockHttpServletResponse();
+        filter.doFilter(adminRequest, adminResponse, new MockFilterChain());
+
+        assertThat(hrResponse.getStatus()).isEqualTo(200);
+        assertThat(adminResponse.getStatus()).isEqualTo(403);
+    }
+
+    @Test
+    void refreshesStaleSessionWithCurrentRoles() throws ServletException, IOException {
+        User user = user(UserStatus.ACTIVE, "ADMIN");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+        sessionService.establishSession(request.getSession(true), user);
+        user.setRoles(Set.of(role("EMPLOYEE")));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        authorizationEpochs.markChanged(user.getId(), sessionService.getAuthorizedAt(request.getSession()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(sessionService.getRoles(request.getSession())).containsExactly("EMPLOYEE");
+    }
+
+    @Test
+    void revokesStaleSessionOfDisabledUser() throws ServletException, IOException {
+        User user = user(UserStatus.DISABLED, "ADMIN");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+        MockHttpSession session = (MockHttpSession) request.getSession(true);
+        sessionService.establishSession(session, user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        authorizationEpochs.markChanged(user.getId(), sessionService.getAuthorizedAt(session));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(401);
+        assertThat(session.isInvalid()).isTrue();
+    }
+
+    @Test
+    void skipsRefreshWhenSessionIsCurrent() throws ServletException, IOException {
+        User user = user(UserStatus.ACTIVE, "ADMIN");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/admin/users");
+        sessionService.establishSession(request.getSession(true), user);
+        authorizationEpochs.markChanged(user.getId(), sessionService.getAuthorizedAt(request.getSession()) - 1);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void routeTablePrefersLongestPrefix() {
+        RouteAuthorizationTable table = new RouteAuthorizationTable(Map.of(
+                "/api/admin", RoleMask.ADMIN,
+                "/api/admin/ops", RoleMask.ADMIN | RoleMask.HR,
+                "/api/hr", RoleMask.HR
+        ));
+
+        assertThat(table.requiredMaskFor("/api/admin/ops/outbox")).isEqualTo(RoleMask.ADMIN | RoleMask.HR);
+        assertThat(table.requiredMaskFor("/api/admin/users")).isEqualTo(RoleMask.ADMIN);
+        assertThat(table.requiredMaskFor("/api/calendar")).isEqualTo(RoleMask.AUTHENTICATED);
+    }
+
+    private User user(UserStatus status, String roleCode) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setStatus(status);
+        user.setRoles(Set.of(role(roleCode)));
+        return user;
+    }
+
+    private Role role(String code) {
+        Role role = new Role();
+        role.setId(UUID.randomUUID());
+        role.setCode(code);
+        return role;
+    }
 }
@@ -1,25 +1,38 @@
 package com.company.service;
 
+import com.company.dto.AdminDtos.AdminTeamRequest;
 import com.company.dto.AdminDtos.AdminUserRequest;
 import com.company.integration.EventPublisher;
 import com.company.model.Role;
+import com.company.model.Team;
+import com.company.model.TeamMembership;
+import com.company.model.TeamMembershipStatus;
 import com.company.model.User;
 import com.company.repos.RoleRepository;
 import com.company.repos.TeamMembershipRepository;
 import com.company.repos.TeamRepository;
 import com.company.repos.UserRepository;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,7 +69,7 @@ class AdminConfigurationServiceTest {
                 roleRepository,
                 teamRepository,
                 teamMembershipRepository,
-                passwordEncoder,
+                new PasswordHashingService(passwordEncoder, Runnable::run, Duration.ofSeconds(5), 10, 0),
                 roleService,
                 eventPublisher,
                 auditService,
@@ -95,4 +108,78 @@ class AdminConfigurationServiceTest {
 
         verify(rbacCacheInvalidator).invalidateForUser(userId);
     }
+
+    @Test
+    void teamMembershipSyncAppliesDiffInBatches() {
+        UUID actorId = UUID.randomUUID();
+        Team team = new Team();
+        team.setId(UUID.randomUUID());
+        team.setName("Platform");
+        User kept = user();
+        User removed = user();
+        User addedFirst = user();
+        User addedSecond = user();
+        TeamMembership keptMembership = membership(team, kept);
+        TeamMembership removedMembership = membership(team, removed);
+
+        when(teamRepository.findById(team.getId())).thenReturn(Optional.of(team));
+        when(teamRepository.save(team)).thenReturn(team);
+        when(teamMembershipRepository.findByTeamId(team.getId()))
+                .thenReturn(List.of(keptMembership, removedMembership));
+        when(userRepository.findAllById(any())).thenReturn(List.of(addedFirst, addedSecond));
+
+        AdminTeamRequest request = new AdminTeamRequest(null, null,
+                List.of(kept.getId(), addedFirst.getId(), addedSecond.getId()));
+        service.updateTeam(actorId, team.getId(), request);
+
+        assertThat(removedMembership.getStatus()).isEqualTo(TeamMembershipStatus.INACTIVE);
+        assertThat(keptMembership.getStatus()).isEqualTo(TeamMembershipStatus.ACTIVE);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> requestedUsers = ArgumentCaptor.forClass(Collection.class);
+        verify(userRepository).findAllById(requestedUsers.capture());
+        assertThat(requestedUsers.getValue()).containsExactlyInAnyOrder(addedFirst.getId(), addedSecond.getId());
+        verify(userRepository, never()).findById(any());
+        verify(teamMembershipRepository, times(2)).saveAll(anyList());
+        verify(teamMembershipRepository, never()).save(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Map<String, Object>>> added = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishAllPostCommit(eq("TeamMembershipAdded"), added.capture());
+        assertThat(added.getValue()).hasSize(2);
+        verify(eventPublisher).publishAllPostCommit(eq("TeamMembershipRemoved"), anyList());
+        verify(auditService).recordTeamMembershipsRemoved(actorId, Map.of(removed.getId(), List.of(team.getId())));
+        verify(auditService).recordTeamMembershipsAdded(eq(actorId), any());
+    }
+
+    @Test
+    void createTeamWithMembersRefreshesTeamVisibility() {
+        UUID actorId = UUID.randomUUID();
+        User member = user();
+        when(teamRepository.save(any())).thenAnswer(invocation -> {
+            Team saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            return saved;
+        });
+        when(userRepository.findAllById(any())).thenReturn(List.of(member));
+
+        service.createTeam(actorId, new AdminTeamRequest("Platform", null, List.of(member.getId())));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<UUID>> teams = ArgumentCaptor.forClass(Collection.class);
+        verify(rbacCacheInvalidator).invalidateForTeams(teams.capture());
+        assertThat(teams.getValue()).hasSize(1);
+    }
+
+    private User user() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        return user;
+    }
+
+    private TeamMembership membership(Team team, User user) {
+        TeamMembership membership = new TeamMembership();
+        membership.setId(UUID.randomUUID());
+        membership.setTeam(team);
+        membership.setUser(user);
+        return membership;
+    }
 }
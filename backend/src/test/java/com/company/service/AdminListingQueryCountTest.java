@@ -0,0 +1,118 @@
+package com.company.service;
+
+import com.company.dto.AdminDtos.AdminListQuery;
+import com.company.dto.AdminDtos.AdminPage;
+import com.company.dto.AdminDtos.AdminTeamView;
+import com.company.dto.AdminDtos.AdminUserView;
+import com.company.model.Role;
+import com.company.model.Team;
+import com.company.model.TeamMembership;
+import com.company.model.User;
+import com.company.repos.RoleRepository;
+import com.company.repos.TeamMembershipRepository;
+import com.company.repos.TeamRepository;
+import com.company.repos.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AdminListingQueryCountTest {
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private RoleRepository roleRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private TeamMembershipRepository teamMembershipRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private AdminConfigurationService service;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        service = new AdminConfigurationService(userRepository, roleRepository, teamRepository, teamMembershipRepository,
+                null, new RoleService(), null, null, mock(RbacCacheInvalidator.class));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Role employee = new Role();
+        employee.setCode("EMPLOYEE");
+        Role manager = new Role();
+        manager.setCode("MANAGER");
+        roleRepository.saveAll(List.of(employee, manager));
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Team team = new Team();
+            team.setName("Team " + i);
+            teams.add(teamRepository.save(team));
+        }
+        for (int i = 0; i < 60; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setDisplayName("User " + i);
+            user.setPasswordHash("hash");
+            user.setRoles(i % 3 == 0 ? Set.of(employee, manager) : Set.of(employee));
+            userRepository.save(user);
+            for (int t = 0; t < 2; t++) {
+                TeamMembership membership = new TeamMembership();
+                membership.setUser(user);
+                membership.setTeam(teams.get((i + t) % teams.size()));
+                teamMembershipRepository.save(membership);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void userPagesIssueConstantNumberOfQueries() {
+        long small = statementsFor(() -> service.listUsers(new AdminListQuery(0, 5, null, null, null)));
+        long large = statementsFor(() -> {
+            AdminPage<AdminUserView> page = service.listUsers(new AdminListQuery(0, 50, "displayName,desc", "user", "ACTIVE"));
+            assertThat(page.totalElements()).isEqualTo(60);
+            assertThat(page.items()).hasSize(50);
+            assertThat(page.items()).allSatisfy(view -> {
+                assertThat(view.teamIds()).hasSize(2);
+                assertThat(view.roles()).isNotEmpty();
+            });
+        });
+
+        assertThat(large).isEqualTo(small);
+        assertThat(large).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void teamPagesIssueConstantNumberOfQueries() {
+        long statements = statementsFor(() -> {
+            AdminPage<AdminTeamView> page = service.listTeams(new AdminListQuery(0, 10, "name", null, null));
+            assertThat(page.items()).hasSize(5);
+            assertThat(page.items()).allSatisfy(view -> assertThat(view.memberIds()).hasSize(24));
+        });
+
+        assertThat(statements).isLessThanOrEqualTo(3);
+    }
+
+    private long statementsFor(Runnable action) {
+        entityManager.clear();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,141 @@
+package com.company.service;
+
+import com.company.model.AuditActionType;
+import com.company.model.AuditLog;
+import com.company.repos.AuditLogBatchRepository;
+import com.company.repos.AuditLogRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuditWriterTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+    @Mock
+    private AuditLogBatchRepository auditLogBatchRepository;
+
+    private AuditWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void flushesQueuedEntriesInBatches() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+            batchSizes.add(invocation.<List<?>>getArgument(0).size());
+            return null;
+        }).when(auditLogBatchRepository).insertBatch(any());
+        writer = new AuditWriter(auditLogRepository, auditLogBatchRepository, 100, 2, Duration.ofMillis(50), Duration.ZERO);
+        writer.start();
+
+        writer.enqueue(entry(), "test");
+        writer.enqueue(entry(), "test");
+        writer.enqueue(entry(), "test");
+        waitUntilWritten(3);
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+        assertThat(batchSizes).allMatch(size -> size <= 2);
+        assertThat(writer.stats().enqueued()).isEqualTo(3);
+        verify(auditLogRepository, never()).save(any());
+    }
+
+    @Test
+    void dropsWhenQueueIsFullAndCountsFailures() throws Exception {
+        doThrow(new IllegalStateException("db down")).when(auditLogBatchRepository).insertBatch(any());
+        writer = new AuditWriter(auditLogRepository, auditLogBatchRepository, 1, 1, Duration.ofSeconds(5), Duration.ZERO);
+
+        writer.enqueue(entry(), "test");
+        writer.enqueue(entry(), "test");
+
+        assertThat(writer.stats().dropped()).isEqualTo(1);
+        assertThat(writer.stats().backPressureWaits()).isEqualTo(1);
+        writer.stop();
+        assertThat(writer.stats().failed()).isEqualTo(1);
+        writer = null;
+    }
+
+    @Test
+    void writeNowSavesSynchronously() {
+        writer = new AuditWriter(auditLogRepository, auditLogBatchRepository, 10, 10, Duration.ofMillis(50), Duration.ZERO);
+        AuditLog entry = entry();
+
+        writer.writeNow(entry, "test");
+
+        verify(auditLogRepository).save(entry);
+        assertThat(writer.stats().writtenSync()).isEqualTo(1);
+    }
+
+    @Test
+    void startsFlusherOnlyWhenStartedAndFlushesQueueOnStop() {
+        writer = new AuditWriter(auditLogRepository, auditLogBatchRepository, 10, 10, Duration.ofMillis(50), Duration.ZERO);
+
+        assertThat(writer.isRunning()).isFalse();
+        writer.start();
+        assertThat(writer.isRunning()).isTrue();
+        writer.enqueue(entry(), "test");
+        writer.stop();
+
+        assertThat(writer.isRunning()).isFalse();
+        assertThat(writer.stats().queued()).isZero();
+        assertThat(writer.stats().written()).isEqualTo(1);
+    }
+
+    @Test
+    void enqueuesInsideATransactionOnlyAfterCommit() {
+        writer = new AuditWriter(auditLogRepository, auditLogBatchRepository, 10, 10, Duration.ofMillis(50), Duration.ZERO);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            writer.enqueue(entry(), "test");
+            writer.enqueue(entry(), "test");
+            assertThat(writer.stats().queued()).isZero();
+
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            synchronizations.get(1).afterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(writer.stats().queued()).isEqualTo(1);
+        assertThat(writer.stats().enqueued()).isEqualTo(1);
+    }
+
+    private void waitUntilWritten(long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (writer.stats().written() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private AuditLog entry() {
+        AuditLog entry = new AuditLog();
+        entry.setActorId(UUID.randomUUID());
+        entry.setActionType(AuditActionType.EMPLOYEE_DASHBOARD_VIEW);
+        entry.setEntityType("DASHBOARD");
+        entry.setEntityId("EMPLOYEE");
+        entry.setDetails("balance_unavailable=false");
+        return entry;
+    }
+}
@@ -0,0 +1,100 @@
+package com.company.service;
+
+import com.company.repos.UserAuthorizationRepository;
+import com.company.repos.UserAuthorizationRepository.AuthorizationChange;
+import com.company.security.AuthorizationEpochs;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthorizationEpochSyncTest {
+
+    @Mock
+    private UserAuthorizationRepository userAuthorizationRepository;
+
+    private final AuthorizationEpochs authorizationEpochs = new AuthorizationEpochs();
+    private final TestClock clock = new TestClock(Instant.parse("2024-03-01T10:00:00Z"));
+    private AuthorizationEpochSync sync;
+
+    @BeforeEach
+    void setUp() {
+        sync = new AuthorizationEpochSync(userAuthorizationRepository, authorizationEpochs, Duration.ofMinutes(30), clock);
+    }
+
+    @Test
+    void recordChangePersistsAndMarksLocalEpoch() {
+        UUID userId = UUID.randomUUID();
+
+        sync.recordChange(userId);
+
+        verify(userAuthorizationRepository).markChanged(userId, clock.instant());
+        assertThat(authorizationEpochs.isStale(userId, clock.millis())).isTrue();
+        assertThat(authorizationEpochs.isStale(userId, clock.millis() + 1)).isFalse();
+    }
+
+    @Test
+    void syncPicksUpChangesFromOtherNodesOnce() {
+        UUID userId = UUID.randomUUID();
+        Instant changedAt = clock.instant().minusSeconds(5);
+        when(userAuthorizationRepository.findChangesSince(any()))
+                .thenReturn(List.of(new AuthorizationChange(userId, changedAt)));
+
+        sync.sync();
+        clock.now = clock.now.plusSeconds(5);
+        sync.sync();
+
+        assertThat(authorizationEpochs.isStale(userId, changedAt.toEpochMilli())).isTrue();
+        assertThat(authorizationEpochs.isStale(userId, changedAt.toEpochMilli() + 1)).isFalse();
+        verify(userAuthorizationRepository).findChangesSince(clock.instant().minusSeconds(5).minus(Duration.ofMinutes(30)));
+        verify(userAuthorizationRepository).findChangesSince(changedAt.minus(Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void syncPrunesEpochsOlderThanSessionTimeout() {
+        UUID userId = UUID.randomUUID();
+        authorizationEpochs.markChanged(userId, clock.instant().minus(Duration.ofMinutes(31)).toEpochMilli());
+        when(userAuthorizationRepository.findChangesSince(any())).thenReturn(List.of());
+
+        sync.sync();
+
+        assertThat(authorizationEpochs.size()).isZero();
+    }
+
+    private static final class TestClock extends Clock {
+        private Instant now;
+
+        private TestClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.company.service;
+
+import com.company.integration.VacationBalanceClient;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BalanceCacheTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-06-01T09:00:00Z"));
+    private final BalanceCache cache = new BalanceCache(Duration.ofMinutes(5), Duration.ofSeconds(30), 2, clock);
+
+    @Test
+    void servesCachedBalanceUntilTtlExpires() {
+        UUID userId = UUID.randomUUID();
+        cache.put(userId, cache.generation(userId), VacationBalanceClient.BalanceResult.available(BigDecimal.TEN));
+
+        assertThat(cache.get(userId).balance()).isEqualByComparingTo("10");
+
+        clock.advance(Duration.ofMinutes(5));
+
+        assertThat(cache.get(userId)).isNull();
+        BalanceCache.CacheStats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+        assertThat(stats.expirations()).isEqualTo(1);
+    }
+
+    @Test
+    void negativeCachesUnavailableForShorterWindow() {
+        UUID userId = UUID.randomUUID();
+        cache.put(userId, cache.generation(userId), VacationBalanceClient.BalanceResult.unavailable("down"));
+
+        assertThat(cache.get(userId).unavailable()).isTrue();
+
+        clock.advance(Duration.ofSeconds(31));
+
+        assertThat(cache.get(userId)).isNull();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedWhenFull() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        cache.put(first, cache.generation(first), VacationBalanceClient.BalanceResult.available(BigDecimal.ONE));
+        cache.put(second, cache.generation(second), VacationBalanceClient.BalanceResult.available(BigDecimal.ONE));
+        cache.get(first);
+        cache.put(third, cache.generation(third), VacationBalanceClient.BalanceResult.available(BigDecimal.ONE));
+
+        assertThat(cache.get(second)).isNull();
+        assertThat(cache.get(first)).isNotNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.stats().size()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidateRemovesEntry() {
+        UUID userId = UUID.randomUUID();
+        cache.put(userId, cache.generation(userId), VacationBalanceClient.BalanceResult.available(BigDecimal.ONE));
+
+        cache.invalidateAfterCommit(userId);
+
+        assertThat(cache.get(userId)).isNull();
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsResultFetchedBeforeAnInvalidation() {
+        UUID userId = UUID.randomUUID();
+        long generation = cache.generation(userId);
+
+        cache.invalidate(userId);
+        cache.put(userId, generation, VacationBalanceClient.BalanceResult.available(BigDecimal.ONE));
+
+        assertThat(cache.get(userId)).isNull();
+
+        cache.put(userId, cache.generation(userId), VacationBalanceClient.BalanceResult.available(BigDecimal.TEN));
+
+        assertThat(cache.get(userId).balance()).isEqualByComparingTo("10");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
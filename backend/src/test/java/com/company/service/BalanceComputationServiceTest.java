@@ -0,0 +1,76 @@
+package com.company.service;
+
+import com.company.dto.TentativeBalanceDto;
+import com.company.integration.VacationBalanceClient;
+import com.company.model.VacationRequestStatus;
+import com.company.repos.VacationRequestRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceComputationServiceTest {
+
+    @Mock
+    private VacationBalanceClient vacationBalanceClient;
+    @Mock
+    private BalanceCache balanceCache;
+    @Mock
+    private VacationRequestRepository vacationRequestRepository;
+
+    private BalanceComputationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BalanceComputationService(vacationBalanceClient, balanceCache, vacationRequestRepository);
+    }
+
+    @Test
+    void sumsPendingDaysForAllAvailableUsersInOneQuery() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID down = UUID.randomUUID();
+        when(vacationBalanceClient.fetchBalances(List.of(first, second, down))).thenReturn(Map.of(
+                first, VacationBalanceClient.BalanceResult.available(BigDecimal.valueOf(10)),
+                second, VacationBalanceClient.BalanceResult.available(BigDecimal.valueOf(3)),
+                down, VacationBalanceClient.BalanceResult.unavailable("External balance system unavailable")
+        ));
+        when(vacationRequestRepository.sumDaysForStatusByUsers(anyList(), eq(VacationRequestStatus.PENDING)))
+                .thenReturn(List.of(total(first, 4), total(second, 5)));
+
+        Map<UUID, TentativeBalanceDto> balances = service.computeForManagerView(List.of(first, second, down));
+
+        assertThat(balances.get(first).tentativeBalance()).isEqualByComparingTo("6");
+        assertThat(balances.get(second).tentativeBalance()).isEqualByComparingTo("0");
+        assertThat(balances.get(down).unavailable()).isTrue();
+        verify(vacationRequestRepository, never()).sumDaysForStatus(any(), any());
+    }
+
+    private VacationRequestRepository.UserDaysTotal total(UUID userId, long days) {
+        return new VacationRequestRepository.UserDaysTotal() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public long getTotalDays() {
+                return days;
+            }
+        };
+    }
+}
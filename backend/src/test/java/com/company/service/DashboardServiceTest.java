@@ -8,19 +8,17 @@ import com.company.model.User;
 import com.company.model.VacationRequest;
 import com.company.model.VacationRequestStatus;
 import com.company.repos.HolidayRepository;
-import com.company.repos.TeamMembershipRepository;
 import com.company.repos.VacationRequestRepository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mock.web.MockHttpSession;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,7 +35,7 @@ class DashboardServiceTest {
     private HolidayRepository holidayRepository;
 
     @Mock
-    private TeamMembershipRepository teamMembershipRepository;
+    private TeamVisibilityGraph teamVisibilityGraph;
 
     @Mock
     private BalanceComputationService balanceComputationService;
@@ -51,12 +49,6 @@ class DashboardServiceTest {
     private final UUID userId = UUID.randomUUID();
     private final LocalDate start = LocalDate.of(2024, 6, 1);
     private final LocalDate end = LocalDate.of(2024, 6, 30);
-    private MockHttpSession session;
-
-    @BeforeEach
-    void setUp() {
-        session = new MockHttpSession();
-    }
 
     @Test
     void computesTentativeBalanceAndMapsVacations() {
@@ -72,19 +64,16 @@ class DashboardServiceTest {
         holiday.setName("Mid-June Holiday");
         holiday.setStatus(HolidayStatus.IMPORTED);
 
-        when(balanceComputationService.computeForUser(userId, session)).thenReturn(
+        when(balanceComputationService.computeForUser(userId)).thenReturn(
                 new TentativeBalanceDto(BigDecimal.valueOf(15), BigDecimal.valueOf(13), false, null)
         );
         when(vacationRequestRepository.findOverlappingForUser(userId, start, end)).thenReturn(List.of(pending));
-        when(teamMembershipRepository.findActiveTeamIdsForUser(any(), any(), any()))
-                .thenReturn(List.of(UUID.randomUUID()));
-        when(teamMembershipRepository.findActiveUserIdsForTeams(any(), any(), any()))
-                .thenReturn(List.of(teammate.getId(), userId));
+        when(teamVisibilityGraph.visibleUserIds(userId)).thenReturn(Set.of(teammate.getId(), userId));
         when(vacationRequestRepository.findTeamVacations(any(), any(), any(), any()))
                 .thenReturn(List.of(approvedTeam));
         when(holidayRepository.findForRange(HolidayStatus.IMPORTED, start, end)).thenReturn(List.of(holiday));
 
-        DashboardResponse response = dashboardService.loadDashboard(userId, session, start, end);
+        DashboardResponse response = dashboardService.loadDashboard(userId, start, end);
 
         assertThat(response.balance().officialBalance()).isEqualByComparingTo("15");
         assertThat(response.balance().tentativeBalance()).isEqualByComparingTo("13");
@@ -0,0 +1,78 @@
+package com.company.service;
+
+import com.company.model.DeductionJob;
+import com.company.model.DeductionJobStatus;
+import com.company.model.ExternalDeductionStatus;
+import com.company.model.VacationRequest;
+import com.company.repos.DeductionJobRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeductionJobServiceTest {
+
+    @Mock
+    private DeductionJobRepository deductionJobRepository;
+
+    @InjectMocks
+    private DeductionJobService deductionJobService;
+
+    @Test
+    void enqueueInsertsNewJobsWithoutConflictingWithAConcurrentEnqueue() {
+        UUID hrId = UUID.randomUUID();
+        VacationRequest fresh = request();
+        VacationRequest raced = request();
+        when(deductionJobRepository.findAllById(List.of(fresh.getId(), raced.getId()))).thenReturn(List.of());
+        when(deductionJobRepository.insertIfAbsent(eq(fresh.getId()), eq(hrId), eq("note"), any())).thenReturn(1);
+        when(deductionJobRepository.insertIfAbsent(eq(raced.getId()), eq(hrId), eq("note"), any())).thenReturn(0);
+
+        int enqueued = deductionJobService.enqueue(List.of(fresh, raced), hrId, "note");
+
+        assertThat(enqueued).isEqualTo(1);
+        assertThat(fresh.getExternalDeductionStatus()).isEqualTo(ExternalDeductionStatus.PENDING);
+        assertThat(raced.getExternalDeductionStatus()).isNull();
+    }
+
+    @Test
+    void enqueueRequeuesFailedJobsAndSkipsActiveOnes() {
+        UUID hrId = UUID.randomUUID();
+        VacationRequest failedRequest = request();
+        VacationRequest activeRequest = request();
+        DeductionJob failedJob = job(failedRequest, DeductionJobStatus.FAILED);
+        DeductionJob activeJob = job(activeRequest, DeductionJobStatus.IN_PROGRESS);
+        when(deductionJobRepository.findAllById(List.of(failedRequest.getId(), activeRequest.getId())))
+                .thenReturn(List.of(failedJob, activeJob));
+
+        int enqueued = deductionJobService.enqueue(List.of(failedRequest, activeRequest), hrId, null);
+
+        assertThat(enqueued).isEqualTo(1);
+        assertThat(failedJob.getStatus()).isEqualTo(DeductionJobStatus.PENDING);
+        assertThat(failedJob.getAttempts()).isZero();
+        assertThat(activeJob.getStatus()).isEqualTo(DeductionJobStatus.IN_PROGRESS);
+        verify(deductionJobRepository).saveAll(List.of(failedJob));
+    }
+
+    private VacationRequest request() {
+        VacationRequest request = new VacationRequest();
+        request.setId(UUID.randomUUID());
+        return request;
+    }
+
+    private DeductionJob job(VacationRequest request, DeductionJobStatus status) {
+        DeductionJob job = DeductionJob.forRequest(request.getId());
+        job.setStatus(status);
+        job.setAttempts(3);
+        return job;
+    }
+}
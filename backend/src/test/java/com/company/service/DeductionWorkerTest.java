@@ -0,0 +1,168 @@
+package com.company.service;
+
+import com.company.integration.EventPublisher;
+import com.company.integration.ExternalDeductionClient;
+import com.company.model.DeductionJob;
+import com.company.model.DeductionJobStatus;
+import com.company.model.ExternalDeductionStatus;
+import com.company.model.User;
+import com.company.model.VacationRequest;
+import com.company.model.VacationRequestStatus;
+import com.company.repos.DeductionJobRepository;
+import com.company.repos.UserRepository;
+import com.company.repos.VacationRequestRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeductionWorkerTest {
+
+    @Mock
+    private DeductionJobRepository deductionJobRepository;
+
+    @Mock
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ExternalDeductionClient externalDeductionClient;
+
+    @Mock
+    private BalanceCache balanceCache;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DeductionWorker worker;
+    private UUID hrId;
+    private User hrUser;
+    private User employee;
+    private VacationRequest request;
+    private DeductionJob job;
+
+    @BeforeEach
+    void setUp() {
+        worker = new DeductionWorker(deductionJobRepository, vacationRequestRepository, userRepository,
+                externalDeductionClient, balanceCache, eventPublisher, auditService, Runnable::run, transactionManager,
+                4, 2, Duration.ofSeconds(30), Duration.ofMinutes(2));
+        hrId = UUID.randomUUID();
+        hrUser = new User();
+        hrUser.setId(hrId);
+        employee = new User();
+        employee.setId(UUID.randomUUID());
+        request = new VacationRequest();
+        request.setId(UUID.randomUUID());
+        request.setUser(employee);
+        request.setStatus(VacationRequestStatus.APPROVED);
+        request.setNumberOfDays(2);
+        request.setStartDate(LocalDate.now().plusDays(10));
+        request.setEndDate(LocalDate.now().plusDays(11));
+        request.setRequestCode("VR-9");
+        request.setExternalDeductionStatus(ExternalDeductionStatus.PENDING);
+        job = DeductionJob.forRequest(request.getId());
+        job.setHrId(hrId);
+        job.setHrNotes("paid out");
+        job.setNextAttemptAt(Instant.now());
+    }
+
+    @Test
+    void marksRequestProcessedAfterSuccessfulDeduction() {
+        stubRequestAwaitingProcessing();
+        claim();
+        when(deductionJobRepository.findById(request.getId())).thenReturn(Optional.of(job));
+        when(externalDeductionClient.deduct(request.getId(), employee.getId(), 2))
+                .thenReturn(ExternalDeductionClient.DeductionResult.successResult());
+        when(userRepository.getReferenceById(hrId)).thenReturn(hrUser);
+        when(vacationRequestRepository.save(request)).thenReturn(request);
+
+        worker.execute(request.getId());
+
+        assertThat(job.getStatus()).isEqualTo(DeductionJobStatus.SUCCEEDED);
+        assertThat(job.getCompletedAt()).isNotNull();
+        assertThat(request.getStatus()).isEqualTo(VacationRequestStatus.PROCESSED);
+        assertThat(request.getHr()).isEqualTo(hrUser);
+        assertThat(request.getHrNotes()).isEqualTo("paid out");
+        assertThat(request.getExternalDeductionStatus()).isEqualTo(ExternalDeductionStatus.SUCCESS);
+        verify(balanceCache).invalidateAfterCommit(employee.getId());
+        verify(eventPublisher).publishPostCommit(eq("VacationProcessed"), any());
+        verify(auditService).recordProcessingSuccess(hrId, request.getId(), "VR-9");
+        assertThat(worker.stats().succeeded()).isEqualTo(1);
+    }
+
+    @Test
+    void reschedulesWhenIntegrationUnavailableThenFailsAfterMaxAttempts() {
+        stubRequestAwaitingProcessing();
+        when(deductionJobRepository.findById(request.getId())).thenReturn(Optional.of(job));
+        when(externalDeductionClient.deduct(request.getId(), employee.getId(), 2))
+                .thenReturn(ExternalDeductionClient.DeductionResult.unavailableResult("down"));
+
+        claim();
+        worker.execute(request.getId());
+
+        assertThat(job.getStatus()).isEqualTo(DeductionJobStatus.PENDING);
+        assertThat(job.getNextAttemptAt()).isAfter(Instant.now().plusSeconds(25));
+        assertThat(job.getLastError()).isEqualTo("down");
+        assertThat(request.getExternalDeductionStatus()).isEqualTo(ExternalDeductionStatus.PENDING);
+        verify(auditService, never()).recordProcessingFailure(any(), any(), any(), any());
+
+        job.setNextAttemptAt(Instant.now());
+        claim();
+        worker.execute(request.getId());
+
+        assertThat(job.getStatus()).isEqualTo(DeductionJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(request.getStatus()).isEqualTo(VacationRequestStatus.APPROVED);
+        assertThat(request.getExternalDeductionStatus()).isEqualTo(ExternalDeductionStatus.FAILED);
+        verify(auditService).recordProcessingFailure(hrId, request.getId(), "VR-9", "down");
+        verify(eventPublisher).publishPostCommit(eq("ExternalBalanceSystemUnavailable"), any());
+    }
+
+    @Test
+    void claimLeasesDueJobs() {
+        when(deductionJobRepository.lockDue(any(), any(), any())).thenReturn(List.of(job));
+
+        List<DeductionJob> claimed = worker.claim(4);
+
+        assertThat(claimed).containsExactly(job);
+        assertThat(job.getStatus()).isEqualTo(DeductionJobStatus.IN_PROGRESS);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getNextAttemptAt()).isAfter(Instant.now().plusSeconds(60));
+        verify(externalDeductionClient, never()).deduct(any(), any(), anyInt());
+    }
+
+    private void stubRequestAwaitingProcessing() {
+        when(vacationRequestRepository.findApprovedUnprocessedById(request.getId(), VacationRequestStatus.APPROVED))
+                .thenReturn(Optional.of(request));
+    }
+
+    private void claim() {
+        job.setStatus(DeductionJobStatus.IN_PROGRESS);
+        job.setAttempts(job.getAttempts() + 1);
+    }
+}
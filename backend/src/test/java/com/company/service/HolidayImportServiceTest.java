@@ -2,23 +2,42 @@ package com.company.service;
 
 import com.company.dto.AdminDtos.HolidayImportResponse;
 import com.company.integration.EventPublisher;
+import com.company.integration.OutboundHttpClients;
 import com.company.model.IntegrationType;
+import com.company.model.Holiday;
+import com.company.model.HolidayStatus;
+import com.company.model.IntegrationConfig;
+import com.company.repos.HolidayBatchRepository;
+import com.company.repos.HolidayBatchRepository.HolidayRow;
 import com.company.repos.HolidayRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 @ExtendWith(MockitoExtension.class)
 class HolidayImportServiceTest {
@@ -31,6 +50,12 @@ class HolidayImportServiceTest {
     private EventPublisher eventPublisher;
     @Mock
     private AuditService auditService;
+    @Mock
+    private WorkingDayIndex workingDayIndex;
+    @Mock
+    private HolidayBatchRepository holidayBatchRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
 
     private HolidayImportService service;
 
@@ -39,9 +64,14 @@ class HolidayImportServiceTest {
         service = new HolidayImportService(
                 integrationConfigService,
                 holidayRepository,
+                holidayBatchRepository,
                 eventPublisher,
                 auditService,
-                new RestTemplateBuilder()
+                new OutboundHttpClients(new RestTemplateBuilder(), 20, 50, Duration.ofSeconds(30), false),
+                workingDayIndex,
+                transactionManager,
+                Runnable::run,
+                3
         );
     }
 
@@ -62,4 +92,96 @@ class HolidayImportServiceTest {
         assertThat(response.outcome()).isEqualTo("failure");
         assertThat(response.message()).containsIgnoringCase("not configured");
     }
+
+    @Test
+    void upsertsOnlyChangedHolidaysInOneBatch() {
+        when(integrationConfigService.findActive(IntegrationType.HOLIDAY_API)).thenReturn(Optional.of(config()));
+        MockRestServiceServer server = MockRestServiceServer.createServer(service.restTemplate());
+        server.expect(requestTo("http://holidays.test/api?year=2025")).andRespond(withSuccess("""
+                [
+                  {"date": "2025-01-01", "name": "New Year", "region": null},
+                  {"date": "2025-05-01", "name": "Labour Day", "region": "de"},
+                  {"date": "2025-12-25", "name": "Christmas", "region": null},
+                  {"date": "not-a-date", "name": "Broken", "region": null}
+                ]
+                """, MediaType.APPLICATION_JSON));
+        Holiday unchanged = holiday(LocalDate.of(2025, 1, 1), "New Year", HolidayStatus.IMPORTED);
+        Holiday deprecated = holiday(LocalDate.of(2025, 12, 25), "Christmas", HolidayStatus.DEPRECATED);
+        when(holidayRepository.findAllInRange(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 25)))
+                .thenReturn(List.of(unchanged, deprecated));
+
+        HolidayImportResponse response = service.importForYear(UUID.randomUUID(), 2025);
+
+        assertThat(response.outcome()).isEqualTo("partial");
+        assertThat(response.imported()).isEqualTo(3);
+        assertThat(response.skipped()).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HolidayRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(holidayBatchRepository).upsertImported(rows.capture());
+        assertThat(rows.getValue()).containsExactly(
+                new HolidayRow(LocalDate.of(2025, 5, 1), "Labour Day", "DE"),
+                new HolidayRow(LocalDate.of(2025, 12, 25), "Christmas", null)
+        );
+        verify(workingDayIndex).invalidateAfterCommit(Set.of(2025));
+        server.verify();
+    }
+
+    @Test
+    void keepsSameNamedHolidaysOfDifferentRegionsApart() {
+        when(integrationConfigService.findActive(IntegrationType.HOLIDAY_API)).thenReturn(Optional.of(config()));
+        MockRestServiceServer server = MockRestServiceServer.createServer(service.restTemplate());
+        server.expect(requestTo("http://holidays.test/api?year=2025")).andRespond(withSuccess("""
+                [
+                  {"date": "2025-11-01", "name": "All Saints", "region": "de"},
+                  {"date": "2025-11-01", "name": "All Saints", "region": "fr"},
+                  {"date": "2025-11-01", "name": "All Saints", "region": "FR"}
+                ]
+                """, MediaType.APPLICATION_JSON));
+        Holiday german = holiday(LocalDate.of(2025, 11, 1), "All Saints", HolidayStatus.IMPORTED);
+        german.setRegionCode("DE");
+        when(holidayRepository.findAllInRange(LocalDate.of(2025, 11, 1), LocalDate.of(2025, 11, 1)))
+                .thenReturn(List.of(german));
+
+        HolidayImportResponse response = service.importForYear(UUID.randomUUID(), 2025);
+
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.skipped()).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<HolidayRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(holidayBatchRepository).upsertImported(rows.capture());
+        assertThat(rows.getValue()).containsExactly(new HolidayRow(LocalDate.of(2025, 11, 1), "All Saints", "FR"));
+        server.verify();
+    }
+
+    @Test
+    void importsEachRequestedYearOnce() {
+        when(integrationConfigService.findActive(IntegrationType.HOLIDAY_API)).thenReturn(Optional.empty());
+
+        List<HolidayImportResponse> responses = service.importForYears(UUID.randomUUID(), List.of(2024, 2025, 2024));
+
+        assertThat(responses).extracting(HolidayImportResponse::year).containsExactly(2024, 2025);
+        verify(auditService).recordHolidayImport(any(), eq(2024), anyInt(), anyInt(), eq("failure"));
+        verify(auditService).recordHolidayImport(any(), eq(2025), anyInt(), anyInt(), eq("failure"));
+        assertThatThrownBy(() -> service.importForYears(UUID.randomUUID(), List.of(2020, 2021, 2022, 2023)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("too_many_years");
+        assertThatThrownBy(() -> service.importForYears(UUID.randomUUID(), Arrays.asList(2024, null)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid_year");
+    }
+
+    private IntegrationConfig config() {
+        IntegrationConfig config = new IntegrationConfig();
+        config.setType(IntegrationType.HOLIDAY_API);
+        config.setEndpointUrl("http://holidays.test/api");
+        return config;
+    }
+
+    private Holiday holiday(LocalDate date, String name, HolidayStatus status) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(date);
+        holiday.setName(name);
+        holiday.setStatus(status);
+        return holiday;
+    }
 }
@@ -0,0 +1,117 @@
+package com.company.service;
+
+import com.company.model.User;
+import com.company.model.UserStatus;
+import com.company.model.VacationRequest;
+import com.company.model.VacationRequestStatus;
+import com.company.repos.UserRepository;
+import com.company.repos.VacationRequestRepository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HrBulkProcessingServiceTest {
+
+    @Mock
+    private VacationRequestRepository vacationRequestRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DeductionJobService deductionJobService;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private HrBulkProcessingService service;
+    private UUID hrId;
+    private User hrUser;
+    private User employee;
+
+    @BeforeEach
+    void setUp() {
+        service = new HrBulkProcessingService(vacationRequestRepository, userRepository, deductionJobService,
+                auditService, transactionManager, 2, 500);
+        hrId = UUID.randomUUID();
+        hrUser = new User();
+        hrUser.setId(hrId);
+        employee = new User();
+        employee.setId(UUID.randomUUID());
+        employee.setStatus(UserStatus.ACTIVE);
+    }
+
+    @Test
+    void queuesRequestsInBatchesAndReportsMissingOnes() {
+        VacationRequest first = buildRequest("VR-1");
+        VacationRequest second = buildRequest("VR-2");
+        VacationRequest third = buildRequest("VR-3");
+        UUID missing = UUID.randomUUID();
+        List<VacationRequest> candidates = List.of(first, second, third);
+        when(userRepository.findById(hrId)).thenReturn(Optional.of(hrUser));
+        when(vacationRequestRepository.findApprovedUnprocessedByIds(anyCollection(), eq(VacationRequestStatus.APPROVED)))
+                .thenAnswer(invocation -> candidates.stream()
+                        .filter(request -> invocation.<Collection<UUID>>getArgument(0).contains(request.getId()))
+                        .toList());
+
+        HrBulkProcessingResult result = service.process(hrId,
+                List.of(first.getId(), missing, second.getId(), third.getId(), first.getId()),
+                "month end");
+
+        assertThat(result.requested()).isEqualTo(4);
+        assertThat(result.queued()).isEqualTo(3);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.outcomes()).extracting(HrBulkProcessingResult.Outcome::requestId)
+                .containsExactly(first.getId(), missing, second.getId(), third.getId());
+        assertThat(result.outcomes()).extracting(HrBulkProcessingResult.Outcome::error)
+                .containsExactly(null, "not_found", null, null);
+        verify(deductionJobService, times(2)).enqueue(anyCollection(), eq(hrId), eq("month end"));
+        verify(vacationRequestRepository, times(2)).saveAll(any());
+        verify(auditService).recordProcessingAttempt(hrId, second.getId(), "VR-2");
+    }
+
+    @Test
+    void failsEveryRequestWhenHrUserIsUnknown() {
+        UUID requestId = UUID.randomUUID();
+        when(userRepository.findById(hrId)).thenReturn(Optional.empty());
+
+        HrBulkProcessingResult result = service.process(hrId, List.of(requestId), null);
+
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(result.outcomes().get(0).error()).isEqualTo("hr_not_found");
+        verify(deductionJobService, never()).enqueue(anyCollection(), any(), any());
+    }
+
+    private VacationRequest buildRequest(String code) {
+        VacationRequest request = new VacationRequest();
+        request.setId(UUID.randomUUID());
+        request.setUser(employee);
+        request.setStatus(VacationRequestStatus.APPROVED);
+        request.setNumberOfDays(3);
+        request.setStartDate(LocalDate.now().plusDays(20));
+        request.setEndDate(LocalDate.now().plusDays(22));
+        request.setRequestCode(code);
+        return request;
+    }
+}
@@ -1,8 +1,5 @@
 package com.company.service;
 
-import com.company.integration.EventPublisher;
-import com.company.integration.ExternalDeductionClient;
-import com.company.model.ExternalDeductionStatus;
 import com.company.model.User;
 import com.company.model.UserStatus;
 import com.company.model.VacationRequest;
@@ -10,6 +7,7 @@ import com.company.model.VacationRequestStatus;
 import com.company.repos.UserRepository;
 import com.company.repos.VacationRequestRepository;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -35,10 +33,7 @@ class HrProcessingServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private ExternalDeductionClient externalDeductionClient;
-
-    @Mock
-    private EventPublisher eventPublisher;
+    private DeductionJobService deductionJobService;
 
     @Mock
     private AuditService auditService;
@@ -51,7 +46,7 @@ class HrProcessingServiceTest {
 
     @BeforeEach
     void setUp() {
-        service = new HrProcessingService(vacationRequestRepository, userRepository, externalDeductionClient, eventPublisher, auditService);
+        service = new HrProcessingService(vacationRequestRepository, userRepository, deductionJobService, auditService);
         hrId = UUID.randomUUID();
         requestId = UUID.randomUUID();
         employee = new User();
@@ -64,45 +59,35 @@ class HrProcessingServiceTest {
     }
 
     @Test
-    void processesApprovedRequestAndEmitsEvent() {
+    void queuesDeductionJobWithoutCallingIntegration() {
         VacationRequest request = buildRequest();
         when(vacationRequestRepository.findApprovedUnprocessedById(requestId, VacationRequestStatus.APPROVED))
                 .thenReturn(Optional.of(request));
         when(userRepository.findById(hrId)).thenReturn(Optional.of(hrUser));
-        when(externalDeductionClient.deduct(request.getId(), employee.getId(), request.getNumberOfDays()))
-                .thenReturn(ExternalDeductionClient.DeductionResult.successResult());
-        when(vacationRequestRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(deductionJobService.enqueue(List.of(request), hrId, "hr note")).thenReturn(1);
 
         HrProcessingResult result = service.process(hrId, requestId, "hr note");
 
         assertThat(result.success()).isTrue();
-        assertThat(result.request().getStatus()).isEqualTo(VacationRequestStatus.PROCESSED);
-        assertThat(result.request().getHr()).isEqualTo(hrUser);
-        assertThat(result.request().getHrNotes()).isEqualTo("hr note");
-        assertThat(result.request().getExternalDeductionStatus()).isEqualTo(ExternalDeductionStatus.SUCCESS);
-        assertThat(result.request().getProcessedAt()).isNotNull();
-
-        verify(eventPublisher).publishPostCommit(eq("VacationProcessed"), any());
-        verify(auditService).recordProcessingSuccess(hrId, requestId, request.getRequestCode());
+        assertThat(result.request().getStatus()).isEqualTo(VacationRequestStatus.APPROVED);
+        assertThat(result.request().getProcessedAt()).isNull();
+        verify(vacationRequestRepository).save(request);
+        verify(auditService).recordProcessingAttempt(hrId, requestId, request.getRequestCode());
     }
 
     @Test
-    void blocksWhenExternalUnavailableAndEmitsFailureEvent() {
+    void doesNotRequeueActiveJob() {
         VacationRequest request = buildRequest();
         when(vacationRequestRepository.findApprovedUnprocessedById(requestId, VacationRequestStatus.APPROVED))
                 .thenReturn(Optional.of(request));
         when(userRepository.findById(hrId)).thenReturn(Optional.of(hrUser));
-        when(externalDeductionClient.deduct(request.getId(), employee.getId(), request.getNumberOfDays()))
-                .thenReturn(ExternalDeductionClient.DeductionResult.unavailableResult("down"));
+        when(deductionJobService.enqueue(List.of(request), hrId, "hr note")).thenReturn(0);
 
         HrProcessingResult result = service.process(hrId, requestId, "hr note");
 
-        assertThat(result.externalUnavailable()).isTrue();
-        assertThat(request.getStatus()).isEqualTo(VacationRequestStatus.APPROVED);
-        assertThat(request.getProcessedAt()).isNull();
-        verify(eventPublisher).publishImmediate(eq("ExternalBalanceSystemUnavailable"), any());
+        assertThat(result.success()).isTrue();
         verify(vacationRequestRepository, never()).save(any());
-        verify(auditService).recordProcessingFailure(hrId, requestId, request.getRequestCode(), "down");
+        verify(auditService, never()).recordProcessingAttempt(any(), any(), anyString());
     }
 
     private VacationRequest buildRequest() {
@@ -1,6 +1,7 @@
 package com.company.service;
 
 import com.company.dto.AdminDtos.IntegrationConfigRequest;
+import com.company.integration.ActiveIntegrationConfigs;
 import com.company.integration.EventPublisher;
 import com.company.model.IntegrationConfig;
 import com.company.model.IntegrationState;
@@ -30,12 +31,14 @@ class IntegrationConfigServiceTest {
     private EventPublisher eventPublisher;
     @Mock
     private AuditService auditService;
+    @Mock
+    private ActiveIntegrationConfigs activeIntegrationConfigs;
 
     private IntegrationConfigService service;
 
     @BeforeEach
     void setUp() {
-        service = new IntegrationConfigService(integrationConfigRepository, eventPublisher, auditService);
+        service = new IntegrationConfigService(integrationConfigRepository, eventPublisher, auditService, activeIntegrationConfigs);
     }
 
     @Test
@@ -62,5 +65,6 @@ class IntegrationConfigServiceTest {
         assertThat(config.getState()).isEqualTo(IntegrationState.DISABLED);
         verify(eventPublisher).publishPostCommit(any(), any());
         verify(auditService).recordIntegrationDisabled(any(), any(), any());
+        verify(activeIntegrationConfigs).refreshAfterCommit();
     }
 }
@@ -0,0 +1,100 @@
+package com.company.service;
+
+import com.company.service.PasswordHashingService.HashingUnavailableException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingServiceTest {
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    @Test
+    void hashesAndVerifiesOnTheHashingExecutor() {
+        PasswordHashingService service = new PasswordHashingService(passwordEncoder, Runnable::run,
+                Duration.ofSeconds(5), 4, 0);
+
+        String hash = service.encode("secret");
+
+        assertThat(service.verify("secret", hash).matched()).isTrue();
+        assertThat(service.verify("wrong", hash).matched()).isFalse();
+        assertThat(service.verify("secret", hash).upgradedHash()).isNull();
+        PasswordHashingService.Stats stats = service.stats();
+        assertThat(stats.encodes()).isEqualTo(1);
+        assertThat(stats.verifications()).isEqualTo(3);
+        assertThat(stats.rehashes()).isZero();
+    }
+
+    @Test
+    void failsFastWhenExecutorRejects() {
+        PasswordHashingService service = new PasswordHashingService(passwordEncoder, task -> {
+            throw new RejectedExecutionException("queue full");
+        }, Duration.ofSeconds(5), 4, 0);
+
+        assertThatThrownBy(() -> service.verify("secret", "hash"))
+                .isInstanceOf(HashingUnavailableException.class)
+                .hasMessage("password_hashing_busy");
+        assertThat(service.encodeAsync("secret")).isCompletedExceptionally();
+        assertThat(service.stats().rejected()).isEqualTo(2);
+    }
+
+    @Test
+    void skipsHashingWorkThatTimedOutWhileQueued() {
+        List<Runnable> queued = new ArrayList<>();
+        PasswordHashingService service = new PasswordHashingService(passwordEncoder, queued::add,
+                Duration.ofMillis(10), 4, 0);
+
+        assertThatThrownBy(() -> service.encode("secret")).isInstanceOf(HashingUnavailableException.class);
+        queued.forEach(Runnable::run);
+
+        assertThat(service.stats().timedOut()).isEqualTo(1);
+        assertThat(service.stats().skipped()).isEqualTo(1);
+        assertThat(service.stats().avgHashMillis()).isZero();
+    }
+
+    @Test
+    void capsBulkHashesInFlightByPermits() {
+        AtomicInteger inFlight = new AtomicInteger();
+        LongAccumulator maxInFlight = new LongAccumulator(Math::max, 0);
+        PasswordEncoder countingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                maxInFlight.accumulate(inFlight.incrementAndGet());
+                try {
+                    return passwordEncoder.encode(rawPassword);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PasswordHashingService service = new PasswordHashingService(countingEncoder, executor,
+                    Duration.ofSeconds(5), 4, 2);
+
+            List<String> hashes = service.encodeAll(List.of("a", "b", "c", "d", "e", "f"));
+
+            assertThat(hashes).hasSize(6);
+            assertThat(passwordEncoder.matches("d", hashes.get(3))).isTrue();
+            assertThat(maxInFlight.get()).isLessThanOrEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
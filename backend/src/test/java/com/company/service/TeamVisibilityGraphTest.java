@@ -0,0 +1,91 @@
+package com.company.service;
+
+import com.company.repos.TeamMembershipRepository;
+import com.company.repos.TeamMembershipRepository.MembershipPair;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TeamVisibilityGraphTest {
+
+    @Mock
+    private TeamMembershipRepository teamMembershipRepository;
+
+    private TeamVisibilityGraph graph;
+    private final UUID alice = UUID.randomUUID();
+    private final UUID bob = UUID.randomUUID();
+    private final UUID carol = UUID.randomUUID();
+    private final UUID platform = UUID.randomUUID();
+    private final UUID payroll = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        graph = new TeamVisibilityGraph(teamMembershipRepository);
+        when(teamMembershipRepository.findAllActivePairs(any(), any())).thenReturn(List.of(
+                pair(alice, platform),
+                pair(bob, platform),
+                pair(bob, payroll),
+                pair(carol, payroll)
+        ));
+    }
+
+    @Test
+    void loadsOnceAndResolvesTeammatesFromMemory() {
+        assertThat(graph.visibleUserIds(alice)).containsExactlyInAnyOrder(alice, bob);
+        assertThat(graph.visibleUserIds(bob)).containsExactlyInAnyOrder(alice, bob, carol);
+        assertThat(graph.visibleUserIds(UUID.randomUUID())).isEmpty();
+
+        verify(teamMembershipRepository, times(1)).findAllActivePairs(any(), any());
+    }
+
+    @Test
+    void userRefreshMovesMembershipBetweenTeams() {
+        graph.reload();
+        when(teamMembershipRepository.findActivePairsForUsers(any(), any(), any()))
+                .thenReturn(List.of(pair(alice, payroll)));
+
+        graph.refreshUsers(List.of(alice));
+
+        assertThat(graph.teamIdsOf(alice)).containsExactly(payroll);
+        assertThat(graph.visibleUserIds(carol)).containsExactlyInAnyOrder(alice, bob, carol);
+        assertThat(graph.visibleUserIds(bob)).containsExactlyInAnyOrder(alice, bob, carol);
+    }
+
+    @Test
+    void archivedTeamRefreshDropsAllEdges() {
+        graph.reload();
+        when(teamMembershipRepository.findActivePairsForTeams(any(), any(), any())).thenReturn(List.of());
+
+        graph.refreshTeams(Set.of(payroll));
+
+        assertThat(graph.teamIdsOf(bob)).containsExactly(platform);
+        assertThat(graph.teamIdsOf(carol)).isEmpty();
+        assertThat(graph.visibleUserIds(carol)).isEmpty();
+    }
+
+    private MembershipPair pair(UUID userId, UUID teamId) {
+        return new MembershipPair() {
+            @Override
+            public UUID getUserId() {
+                return userId;
+            }
+
+            @Override
+            public UUID getTeamId() {
+                return teamId;
+            }
+        };
+    }
+}
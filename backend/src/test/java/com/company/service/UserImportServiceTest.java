@@ -0,0 +1,259 @@
+package com.company.service;
+
+import com.company.dto.AdminDtos.UserImportResult;
+import com.company.dto.AdminDtos.UserImportRow;
+import com.company.integration.EventPublisher;
+import com.company.model.Role;
+import com.company.model.Team;
+import com.company.model.TeamStatus;
+import com.company.repos.RoleRepository;
+import com.company.repos.TeamRepository;
+import com.company.repos.UserImportBatchRepository;
+import com.company.repos.UserImportBatchRepository.MembershipRow;
+import com.company.repos.UserImportBatchRepository.UserRow;
+import com.company.repos.UserRepository;
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserImportBatchRepository userImportBatchRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @Mock
+    private AuditService auditService;
+
+    @Mock
+    private RbacCacheInvalidator rbacCacheInvalidator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserImportService service;
+    private UUID actorId;
+    private Team platform;
+    private Team legacy;
+    private Role employee;
+
+    @BeforeEach
+    void setUp() {
+        service = newService(Runnable::run);
+        actorId = UUID.randomUUID();
+        Role employee = new Role();
+        employee.setId(UUID.randomUUID());
+        employee.setCode("EMPLOYEE");
+        platform = new Team();
+        platform.setId(UUID.randomUUID());
+        platform.setName("Platform");
+        legacy = new Team();
+        legacy.setId(UUID.randomUUID());
+        legacy.setName("Legacy");
+        legacy.setStatus(TeamStatus.ARCHIVED);
+        this.employee = employee;
+    }
+
+    private void stubReferenceData() {
+        when(roleRepository.findAll()).thenReturn(List.of(employee));
+        when(teamRepository.findAll()).thenReturn(List.of(platform, legacy));
+    }
+
+    @Test
+    void importsValidRowsInBatchesAndReportsRowErrors() {
+        stubReferenceData();
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of("taken"));
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "hash:" + invocation.getArgument(0));
+
+        UserImportResult result = service.importRows(actorId, List.of(
+                row("alice", List.of("employee"), List.of("platform")),
+                row("bob", List.of("EMPLOYEE"), List.of(platform.getId().toString())),
+                row("taken", List.of("EMPLOYEE"), List.of()),
+                row("ALICE", List.of("EMPLOYEE"), List.of()),
+                row("carol", List.of("AUDITOR"), List.of()),
+                row("dave", List.of("EMPLOYEE"), List.of("Legacy")),
+                row("erin", List.of("EMPLOYEE"), List.of("Unknown")),
+                new UserImportRow("frank", "Frank", "secret", "SLEEPING", List.of("EMPLOYEE"), List.of()),
+                new UserImportRow("gina", "Gina", "", null, List.of("EMPLOYEE"), List.of()),
+                row("hank", List.of(), List.of())
+        ));
+
+        assertThat(result.total()).isEqualTo(10);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(8);
+        assertThat(result.errors()).extracting(error -> error.row() + ":" + error.error()).containsExactly(
+                "3:username_exists",
+                "4:username_exists",
+                "5:role_not_found",
+                "6:team_archived",
+                "7:team_not_found",
+                "8:invalid_status",
+                "9:password_required",
+                "10:roles_required"
+        );
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserRow>> users = ArgumentCaptor.forClass(List.class);
+        verify(userImportBatchRepository).insertUsers(users.capture());
+        assertThat(users.getValue()).extracting(UserRow::username).containsExactly("alice", "bob");
+        assertThat(users.getValue()).extracting(UserRow::passwordHash).containsExactly("hash:secret", "hash:secret");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MembershipRow>> memberships = ArgumentCaptor.forClass(List.class);
+        verify(userImportBatchRepository).insertMemberships(memberships.capture(), any());
+        assertThat(memberships.getValue()).extracting(MembershipRow::teamId)
+                .containsExactly(platform.getId(), platform.getId());
+        verify(eventPublisher).publishAllPostCommit(eq("UserInvited"), anyList());
+        verify(eventPublisher).publishAllPostCommit(eq("TeamMembershipAdded"), anyList());
+        verify(auditService).recordUserInvites(eq(actorId), any());
+        verify(rbacCacheInvalidator).invalidateForTeams(Set.of(platform.getId()));
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRowSoOnlyTheOffendingRowFails() {
+        stubReferenceData();
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        doAnswer(invocation -> {
+            List<UserRow> users = invocation.getArgument(0);
+            if (users.stream().anyMatch(user -> user.username().equals("alice"))) {
+                throw new DuplicateKeyException("uq_users_username");
+            }
+            return null;
+        }).when(userImportBatchRepository).insertUsers(anyList());
+
+        UserImportResult result = service.importRows(actorId, List.of(
+                row("alice", List.of("EMPLOYEE"), List.of()),
+                row("bob", List.of("EMPLOYEE"), List.of()),
+                row("carol", List.of("EMPLOYEE"), List.of())
+        ));
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).extracting(error -> error.username() + ":" + error.error())
+                .containsExactly("alice:username_exists");
+        verify(userImportBatchRepository, times(4)).insertUsers(anyList());
+        verify(userImportBatchRepository, never()).insertMemberships(anyList(), any());
+    }
+
+    @Test
+    void rejectsOversizedColumnsAndAmbiguousTeamNamesPerRow() {
+        Team duplicate = new Team();
+        duplicate.setId(UUID.randomUUID());
+        duplicate.setName("platform ");
+        when(roleRepository.findAll()).thenReturn(List.of(employee));
+        when(teamRepository.findAll()).thenReturn(List.of(platform, legacy, duplicate));
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+
+        UserImportResult result = service.importRows(actorId, List.of(
+                row("u".repeat(121), List.of("EMPLOYEE"), List.of()),
+                new UserImportRow("bob", "B".repeat(141), "secret", null, List.of("EMPLOYEE"), List.of()),
+                new UserImportRow("carol", "Carol", "p".repeat(73), null, List.of("EMPLOYEE"), List.of()),
+                row("dave", List.of("EMPLOYEE"), List.of("Platform")),
+                row("erin", List.of("EMPLOYEE"), List.of(platform.getId().toString()))
+        ));
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).extracting(error -> error.row() + ":" + error.error()).containsExactly(
+                "1:username_too_long",
+                "2:display_name_too_long",
+                "3:password_too_long",
+                "4:team_ambiguous"
+        );
+    }
+
+    @Test
+    void reportsBusyHashingPoolInsteadOfInsertFailure() {
+        service = newService(command -> {
+            throw new RejectedExecutionException("full");
+        });
+        stubReferenceData();
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+
+        UserImportResult result = service.importRows(actorId, List.of(row("alice", List.of("EMPLOYEE"), List.of())));
+
+        assertThat(result.imported()).isZero();
+        assertThat(result.errors()).extracting(error -> error.username() + ":" + error.error())
+                .containsExactly("alice:password_hashing_busy");
+        verify(userImportBatchRepository, never()).insertUsers(anyList());
+    }
+
+    @Test
+    void parsesCsvWithQuotedFieldsAndListColumns() throws Exception {
+        stubReferenceData();
+        when(userRepository.findExistingUsernames(anyCollection())).thenReturn(List.of());
+        when(passwordEncoder.encode(anyString())).thenReturn("hash");
+        String csv = """
+                username,display_name,password,roles,teams
+                alice,"Smith, Alice",secret,EMPLOYEE;employee,Platform
+                """;
+
+        UserImportResult result = service.importCsv(actorId, new StringReader(csv));
+
+        assertThat(result.imported()).isEqualTo(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserRow>> users = ArgumentCaptor.forClass(List.class);
+        verify(userImportBatchRepository).insertUsers(users.capture());
+        assertThat(users.getValue().get(0).displayName()).isEqualTo("Smith, Alice");
+        verify(auditService).recordTeamMembershipsAdded(eq(actorId),
+                eq(Map.of(users.getValue().get(0).id(), List.of(platform.getId()))));
+    }
+
+    @Test
+    void rejectsCsvWithoutUsernameColumn() {
+        assertThatThrownBy(() -> service.importCsv(actorId, new StringReader("name,password\nx,y\n")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid_csv_header");
+    }
+
+    private UserImportService newService(Executor hashExecutor) {
+        return new UserImportService(userRepository, roleRepository, teamRepository, userImportBatchRepository,
+                new PasswordHashingService(passwordEncoder, hashExecutor, Duration.ofSeconds(5), 10, 0),
+                eventPublisher, auditService, rbacCacheInvalidator, transactionManager, 2, 100);
+    }
+
+    private UserImportRow row(String username, List<String> roles, List<String> teams) {
+        return new UserImportRow(username, username.toUpperCase(), "secret", null, roles, teams);
+    }
+}
@@ -0,0 +1,106 @@
+package com.company.service;
+
+import com.company.model.Holiday;
+import com.company.model.HolidayStatus;
+import com.company.repos.HolidayRepository;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class WorkingDayIndexTest {
+
+    @Mock
+    private HolidayRepository holidayRepository;
+
+    private WorkingDayIndex index;
+    private DayCountService dayCountService;
+
+    @BeforeEach
+    void setUp() {
+        index = new WorkingDayIndex(holidayRepository, List.of(DayOfWeek.SATURDAY, DayOfWeek.SUNDAY), "AE=FRIDAY+SATURDAY");
+        dayCountService = new DayCountService(index);
+    }
+
+    @Test
+    void excludesWeekendsAndHolidaysWithoutReloading() {
+        stubYear(2024, holiday("2024-05-01", "Labour Day", null), holiday("2024-05-01", "Duplicate", null),
+                holiday("2024-05-08", "Victory Day", null));
+
+        // Mon 29 Apr - Fri 10 May: 10 weekdays, two of them holidays
+        assertThat(dayCountService.computeNumberOfDays(LocalDate.of(2024, 4, 29), LocalDate.of(2024, 5, 10))).isEqualTo(8);
+        assertThat(dayCountService.computeNumberOfDays(LocalDate.of(2024, 5, 4), LocalDate.of(2024, 5, 5))).isZero();
+
+        verify(holidayRepository, times(1))
+                .findForRange(HolidayStatus.IMPORTED, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    @Test
+    void appliesRegionRestDaysAndRegionalHolidays() {
+        stubYear(2024, holiday("2024-05-01", "Labour Day", null), holiday("2024-05-06", "Regional Day", "AE"));
+
+        // Wed 1 May - Tue 7 May
+        LocalDate start = LocalDate.of(2024, 5, 1);
+        LocalDate end = LocalDate.of(2024, 5, 7);
+        assertThat(dayCountService.computeNumberOfDays(null, start, end)).isEqualTo(4);
+        assertThat(dayCountService.computeNumberOfDays("ae", start, end)).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsRangesOutsideTheIndexedYearsWithoutQueryingHolidays() {
+        assertThatThrownBy(() -> dayCountService.computeNumberOfDays(LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> dayCountService.computeNumberOfDays(LocalDate.of(2100, 12, 1), LocalDate.of(2101, 1, 5)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(holidayRepository);
+    }
+
+    @Test
+    void spansYearBoundary() {
+        stubYear(2024, holiday("2024-12-25", "Christmas", null));
+        stubYear(2025, holiday("2025-01-01", "New Year", null));
+
+        // Fri 20 Dec 2024 - Sun 5 Jan 2025: 11 weekdays, two holidays
+        assertThat(index.countWorkingDays(null, LocalDate.of(2024, 12, 20), LocalDate.of(2025, 1, 5))).isEqualTo(9);
+    }
+
+    @Test
+    void invalidationOutsideTransactionReloadsYear() {
+        when(holidayRepository.findForRange(HolidayStatus.IMPORTED, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)))
+                .thenReturn(List.of(holiday("2024-05-01", "Labour Day", null)))
+                .thenReturn(List.of());
+        LocalDate may1 = LocalDate.of(2024, 5, 1);
+
+        assertThat(index.countWorkingDays(null, may1, may1)).isZero();
+        index.invalidateAfterCommit(List.of(2024));
+
+        assertThat(index.countWorkingDays(null, may1, may1)).isEqualTo(1);
+    }
+
+    private void stubYear(int year, Holiday... holidays) {
+        when(holidayRepository.findForRange(HolidayStatus.IMPORTED, LocalDate.of(year, 1, 1), LocalDate.of(year, 12, 31)))
+                .thenReturn(List.of(holidays));
+    }
+
+    private Holiday holiday(String date, String name, String region) {
+        Holiday holiday = new Holiday();
+        holiday.setDate(LocalDate.parse(date));
+        holiday.setName(name);
+        holiday.setStatus(HolidayStatus.IMPORTED);
+        holiday.setRegionCode(region);
+        return holiday;
+    }
+}
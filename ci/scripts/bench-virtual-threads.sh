@@ -0,0 +1,142 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+# Compares max sustainable req/s on /api/calendar and /api/manager/pending with
+# platform vs. virtual threads while INT-001 is simulated with a fixed delay.
+# The balance cache is disabled (BALANCE_CACHE_TTL=PT0S) and employee1 files PENDING_REQUESTS
+# pending requests, so every measured request on both endpoints waits on INT-001.
+# Requires: Java 21 jar built with -Pjava21, a running Postgres (docker compose up -d db), curl, hey.
+
+JAR=${JAR:-backend/target/vacation-tool-backend-0.0.1-SNAPSHOT.jar}
+PORT=${PORT:-8080}
+BASE_URL="http://localhost:${PORT}"
+STUB_PORT=${STUB_PORT:-9099}
+INT001_DELAY_MS=${INT001_DELAY_MS:-300}
+DURATION=${DURATION:-30s}
+CONCURRENCY=${CONCURRENCY:-200}
+PASSWORD=${BENCH_PASSWORD:-password}
+PENDING_REQUESTS=${PENDING_REQUESTS:-5}
+export BALANCE_CACHE_TTL=${BALANCE_CACHE_TTL:-PT0S}
+export DB_URL=${DB_URL:-jdbc:postgresql://localhost:5432/vacationtool}
+export DB_USER=${DB_USER:-vacation}
+export DB_PASSWORD=${DB_PASSWORD:-vacation}
+export SESSION_COOKIE_SECURE=false
+
+command -v hey >/dev/null || { echo "hey is required (go install github.com/rakyll/hey@latest)"; exit 1; }
+
+WORKDIR=$(mktemp -d)
+RESULTS="$WORKDIR/results.txt"
+SEEDED=false
+APP_PID=""
+STUB_PID=""
+
+cleanup() {
+  [[ -n "$APP_PID" ]] && kill "$APP_PID" 2>/dev/null || true
+  [[ -n "$STUB_PID" ]] && kill "$STUB_PID" 2>/dev/null || true
+}
+trap cleanup EXIT
+
+echo "Starting INT-001 stub on :${STUB_PORT} with ${INT001_DELAY_MS}ms delay"
+python3 - "$STUB_PORT" "$INT001_DELAY_MS" <<'PY' &
+import sys, time
+from http.server import ThreadingHTTPServer, BaseHTTPRequestHandler
+import threading
+port, delay = int(sys.argv[1]), int(sys.argv[2]) / 1000.0
+calls, lock = [0], threading.Lock()
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+    def do_GET(self):
+        if self.path == "/__calls":
+            body = str(calls[0]).encode()
+        else:
+            with lock:
+                calls[0] += 1
+            time.sleep(delay)
+            body = b'{"balance":20}'
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(body)))
+        self.end_headers()
+        self.wfile.write(body)
+    def log_message(self, *args):
+        pass
+ThreadingHTTPServer(("127.0.0.1", port), Handler).serve_forever()
+PY
+STUB_PID=$!
+
+login() {
+  local user=$1 cookies=$2
+  curl -sf -o /dev/null -c "$cookies" -X POST "${BASE_URL}/api/login" \
+    -H "Content-Type: application/json" \
+    -d "{\"username\":\"${user}\",\"password\":\"${PASSWORD}\"}"
+}
+
+session_cookie() {
+  awk '$6 == "SESSIONID" { print $7 }' "$1"
+}
+
+stub_calls() {
+  curl -sf "http://127.0.0.1:${STUB_PORT}/__calls"
+}
+
+seed_pending_requests() {
+  local cookies=$1 i start end
+  for ((i = 0; i < PENDING_REQUESTS; i++)); do
+    start=$(date -d "+$((60 + i * 7)) days" +%F)
+    end=$(date -d "+$((61 + i * 7)) days" +%F)
+    curl -sf -o /dev/null -b "$cookies" -X POST "${BASE_URL}/api/vacation/submit" \
+      -H "Content-Type: application/json" \
+      -d "{\"startDate\":\"${start}\",\"endDate\":\"${end}\"}" \
+      || echo "warning: could not file pending request ${start}..${end}"
+  done
+}
+
+run_mode() {
+  local mode=$1 virtual=$2
+  echo "=== ${mode} (spring.threads.virtual.enabled=${virtual}) ==="
+  VIRTUAL_THREADS_ENABLED=$virtual SERVER_PORT=$PORT java -jar "$JAR" >"$WORKDIR/${mode}.log" 2>&1 &
+  APP_PID=$!
+  for attempt in {1..60}; do
+    curl -sf "${BASE_URL}/health" >/dev/null && break
+    sleep 2
+  done
+
+  login demo "$WORKDIR/admin.txt"
+  if ! curl -sf -b "$WORKDIR/admin.txt" "${BASE_URL}/api/admin/integrations" | grep -q "127.0.0.1:${STUB_PORT}"; then
+    curl -sf -o /dev/null -b "$WORKDIR/admin.txt" -X POST "${BASE_URL}/api/admin/integrations" \
+      -H "Content-Type: application/json" \
+      -d "{\"type\":\"VACATION_BALANCE\",\"endpointUrl\":\"http://127.0.0.1:${STUB_PORT}/balance\"}"
+  fi
+
+  login employee1 "$WORKDIR/employee.txt"
+  login manager1 "$WORKDIR/manager.txt"
+  if [[ "$SEEDED" == false ]]; then
+    seed_pending_requests "$WORKDIR/employee.txt"
+    SEEDED=true
+  fi
+  if ! curl -sf -b "$WORKDIR/manager.txt" "${BASE_URL}/api/manager/pending" | grep -q '"requestId"'; then
+    echo "no pending requests visible to manager1; /api/manager/pending would not call INT-001" >&2
+    exit 1
+  fi
+
+  for target in "employee.txt:/api/calendar" "manager.txt:/api/manager/pending"; do
+    local cookies=${target%%:*} path=${target#*:}
+    local rps calls_before calls
+    calls_before=$(stub_calls)
+    rps=$(hey -z "$DURATION" -c "$CONCURRENCY" -H "Cookie: SESSIONID=$(session_cookie "$WORKDIR/$cookies")" \
+      "${BASE_URL}${path}" | awk '/Requests\/sec/ { print $2 }')
+    calls=$(( $(stub_calls) - calls_before ))
+    printf "%-10s %-22s %s req/s  (%s INT-001 calls)\n" "$mode" "$path" "$rps" "$calls" | tee -a "$RESULTS"
+  done
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=""
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo
+echo "Results (INT-001 delay ${INT001_DELAY_MS}ms, ${CONCURRENCY} concurrent clients, ${DURATION}):"
+cat "$RESULTS"
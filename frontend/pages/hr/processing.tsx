@@ -142,7 +142,7 @@ export default function HrProcessingPage({ initialQueue, initialDetail, error: i
       const payload = (await response.json()) as HrProcessingDetail;
       const updatedQueue = queue.filter((item) => item.requestId !== selectedId);
       setQueue(updatedQueue);
-      setActionSuccess("Request processed and deducted.");
+      setActionSuccess("Request queued for deduction.");
       if (updatedQueue.length === 0) {
         setSelectedId(null);
         setDetail(payload);